@@ -4,6 +4,121 @@ plugins {
     alias(libs.plugins.kotlin.compose)
 }
 
+// Offline dictionary: compiled from a plain word list into an indexed binary asset
+val dictionarySource = layout.projectDirectory.file("src/main/dictionary/words.txt")
+val dictionaryAssetsDir = layout.buildDirectory.dir("generated/dictionary/assets")
+
+val generateDictionary by tasks.registering {
+    description = "Builds assets/dictionary.bin from src/main/dictionary/words.txt"
+    inputs.file(dictionarySource)
+    outputs.dir(dictionaryAssetsDir)
+
+    doLast {
+        // Parse "word: synonym, synonym" lines; playable words get the lowest string ids
+        val entries = linkedMapOf<String, List<String>>()
+        dictionarySource.asFile.forEachLine { raw ->
+            val line = raw.trim()
+            if (line.isEmpty() || line.startsWith("#")) return@forEachLine
+            val word = line.substringBefore(':').trim().lowercase()
+            entries[word] = line.substringAfter(':', "")
+                .split(',')
+                .map { it.trim().lowercase() }
+                .filter { it.isNotEmpty() && it != word }
+        }
+
+        val strings = ArrayList(entries.keys)
+        val ids = HashMap<String, Int>()
+        strings.forEachIndexed { i, s -> ids[s] = i }
+        val adjacency = ArrayList<Int>()
+        val synonymStart = IntArray(entries.size + 1)
+        entries.values.forEachIndexed { i, synonyms ->
+            synonymStart[i] = adjacency.size
+            for (synonym in synonyms) {
+                adjacency += ids.getOrPut(synonym) { strings.add(synonym); strings.size - 1 }
+            }
+        }
+        synonymStart[entries.size] = adjacency.size
+
+        // FNV-1a over the UTF-8 bytes, matching OfflineDictionary.hash()
+        fun hash(bytes: ByteArray): Int {
+            var h = 0x811c9dc5.toInt()
+            for (b in bytes) {
+                h = h xor (b.toInt() and 0xff)
+                h *= 16777619
+            }
+            return h
+        }
+
+        val encoded = strings.map { it.toByteArray(Charsets.UTF_8) }
+        var slots = 1
+        while (slots < entries.size * 2) slots = slots shl 1
+        val table = IntArray(slots)
+        for (id in 0 until entries.size) {
+            var slot = hash(encoded[id]) and (slots - 1)
+            while (table[slot] != 0) slot = (slot + 1) and (slots - 1)
+            table[slot] = id + 1
+        }
+
+        val out = dictionaryAssetsDir.get().file("dictionary.bin").asFile
+        out.parentFile.mkdirs()
+        java.io.DataOutputStream(java.io.BufferedOutputStream(java.io.FileOutputStream(out))).use { data ->
+            data.writeInt(0x57474431) // "WGD1"
+            data.writeInt(1)
+            data.writeInt(strings.size)
+            data.writeInt(entries.size)
+            data.writeInt(slots)
+            data.writeInt(adjacency.size)
+            var offset = 0
+            for (bytes in encoded) {
+                data.writeInt(offset)
+                offset += bytes.size
+            }
+            data.writeInt(offset)
+            synonymStart.forEach { data.writeInt(it) }
+            adjacency.forEach { data.writeInt(it) }
+            table.forEach { data.writeInt(it) }
+            encoded.forEach { data.write(it) }
+        }
+        logger.lifecycle("Dictionary: ${entries.size} words, ${strings.size} strings, ${out.length()} bytes")
+    }
+}
+
+// Guess vocabulary: every single-word entry of both lists, as a minimized DAWG (see WordGraphBuilder)
+val guessesSource = layout.projectDirectory.file("src/main/dictionary/guesses.txt")
+val wordGraphAssetsDir = layout.buildDirectory.dir("generated/wordgraph/assets")
+
+val generateWordGraph by tasks.registering {
+    description = "Builds assets/words.dawg from src/main/dictionary/words.txt and guesses.txt"
+    inputs.files(dictionarySource, guessesSource)
+    outputs.dir(wordGraphAssetsDir)
+
+    doLast {
+        val words = sortedSetOf<String>()
+        val letters = Regex("[a-z]+")
+        dictionarySource.asFile.forEachLine { raw ->
+            val line = raw.trim()
+            if (line.isEmpty() || line.startsWith("#")) return@forEachLine
+            (listOf(line.substringBefore(':')) + line.substringAfter(':', "").split(','))
+                .map { it.trim().lowercase() }
+                .filterTo(words) { letters.matches(it) }
+        }
+        guessesSource.asFile.forEachLine { raw ->
+            val line = raw.trim()
+            if (line.startsWith("#")) return@forEachLine
+            line.split(Regex("\\s+")).map { it.lowercase() }.filterTo(words) { letters.matches(it) }
+        }
+
+        val graph = com.example.wordguessinggame.WordGraphBuilder.build(words)
+
+        val out = wordGraphAssetsDir.get().file("words.dawg").asFile
+        out.parentFile.mkdirs()
+        out.writeBytes(graph)
+        logger.lifecycle("Word graph: ${words.size} words, ${java.nio.ByteBuffer.wrap(graph).getInt(12)} edges, ${graph.size} bytes")
+    }
+}
+
+tasks.named("preBuild") { dependsOn(generateDictionary, generateWordGraph) }
+
 android {
     namespace = "com.example.wordguessinggame"
     compileSdk = 36
@@ -41,6 +156,15 @@ android {
         compose = true
         viewBinding = true
     }
+    androidResources {
+        // Keep the dictionary and word graph uncompressed so they can be memory-mapped straight from the APK
+        noCompress += listOf("bin", "dawg")
+    }
+    sourceSets.getByName("main").assets.srcDirs(dictionaryAssetsDir, wordGraphAssetsDir)
+    testOptions {
+        // android.util.Log and friends return defaults in JVM unit tests
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
@@ -57,6 +181,8 @@ dependencies {
     implementation(libs.okhttp)
     implementation(libs.androidx.constraintlayout)
     implementation(libs.material)
+    testImplementation(libs.junit)
+    testImplementation(libs.mockwebserver)
     androidTestImplementation(libs.androidx.junit)
     androidTestImplementation(libs.androidx.espresso.core)
     androidTestImplementation(platform(libs.androidx.compose.bom))
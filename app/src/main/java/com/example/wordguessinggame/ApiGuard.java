@@ -0,0 +1,282 @@
+package com.example.wordguessinggame;
+
+import android.util.Log;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+// Client-side protection for the API-Ninjas quota: a per-endpoint token bucket that delays or sheds calls,
+// plus a circuit breaker that opens on errors, 429s and slow responses and backs off further on each trip.
+// Rejected calls fail fast with RejectedException so callers fall back to local words.
+public class ApiGuard implements Interceptor {
+    private static final String TAG = "ApiGuard";
+
+    // Rate defaults (two calls per candidate, DEFAULT_FAN_OUT candidates at once)
+    public static final double DEFAULT_PERMITS_PER_SECOND = 4;
+    public static final int DEFAULT_BURST = 8;
+    public static final long DEFAULT_MAX_WAIT_MS = 1_500;   // Delay up to this long, shed beyond it
+    public static final long DEFAULT_SLOW_CALL_MS = 4_000;  // Slower responses count as failures
+    public static final long DEFAULT_BASE_OPEN_MS = 5_000;  // First trip; doubles per repeated trip
+
+    // Breaker tuning
+    public static final int WINDOW_SIZE = 20;               // Outcomes considered for the error rate
+    public static final int MIN_CALLS = 5;                  // Don't judge on fewer outcomes
+    public static final double FAILURE_RATE_TO_OPEN = 0.5;
+    public static final long MAX_OPEN_MS = 120_000;
+    private static final double MIN_RATE_FRACTION = 0.125;  // Lowest the bucket slows down to after 429s
+    private static final double LATENCY_ALPHA = 0.2;        // Weight of the newest sample in the latency EWMA
+
+    // Breaker states
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // Thrown instead of making a call
+    public static class RejectedException extends IOException {
+        public final boolean circuitOpen; // false: rate limited
+        public final long retryAfterMillis;
+
+        RejectedException(String endpoint, boolean circuitOpen, long retryAfterMillis) {
+            super((circuitOpen ? "Circuit open for " : "Rate limited on ") + endpoint
+                    + ", retry in " + retryAfterMillis + "ms");
+            this.circuitOpen = circuitOpen;
+            this.retryAfterMillis = retryAfterMillis;
+        }
+    }
+
+    private final double maxPermitsPerSecond;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final long slowCallMillis;
+    private final long baseOpenMillis;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public ApiGuard(double permitsPerSecond, int burst, long maxWaitMillis, long slowCallMillis,
+                    long baseOpenMillis) {
+        this.maxPermitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.slowCallMillis = slowCallMillis;
+        this.baseOpenMillis = baseOpenMillis;
+    }
+
+    public static ApiGuard withDefaults() {
+        return new ApiGuard(DEFAULT_PERMITS_PER_SECOND, DEFAULT_BURST, DEFAULT_MAX_WAIT_MS,
+                DEFAULT_SLOW_CALL_MS, DEFAULT_BASE_OPEN_MS);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String name = NetworkTimings.endpointOf(request.url());
+        Endpoint endpoint = endpoint(name);
+
+        long waitNanos = endpoint.admit(name);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                endpoint.onCancelled();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while rate limited");
+            }
+        }
+
+        long start = System.nanoTime();
+        try {
+            Response response = chain.proceed(request);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            endpoint.onResponse(name, response.code(), retryAfterMillis(response), millis);
+            return response;
+        } catch (IOException e) {
+            if (chain.call().isCanceled()) {
+                endpoint.onCancelled(); // Losing speculative candidates say nothing about the server
+            } else {
+                endpoint.onFailure(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            throw e;
+        }
+    }
+
+    // Whether calls to this endpoint would currently be attempted at all
+    public boolean isAvailable(String endpoint) {
+        Endpoint guard = endpoints.get(endpoint);
+        return guard == null || guard.currentState() != State.OPEN;
+    }
+
+    public State getState(String endpoint) {
+        Endpoint guard = endpoints.get(endpoint);
+        return guard == null ? State.CLOSED : guard.currentState();
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    // Retry-After in seconds (the HTTP-date form is ignored)
+    private static long retryAfterMillis(Response response) {
+        String header = response.header("Retry-After");
+        if (header == null) return 0;
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // Report for the metrics screen
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            sb.append(entry.getKey()).append('\n').append("  ").append(entry.getValue().describe()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Token bucket and breaker for one endpoint; all state guarded by the instance
+    private class Endpoint {
+        // Token bucket (tokens may go negative: that is a reservation a delayed caller sleeps off)
+        double permitsPerSecond = maxPermitsPerSecond;
+        double tokens = burst;
+        long refilledAt = System.nanoTime();
+
+        // Breaker
+        State state = State.CLOSED;
+        final boolean[] window = new boolean[WINDOW_SIZE]; // true = failure
+        int windowCount;
+        int windowNext;
+        int windowFailures;
+        long openUntil;
+        int trips;
+        boolean probeInFlight;
+        double latencyEwmaMillis = -1;
+
+        // Counters
+        long admitted;
+        long delayed;
+        long shedRateLimited;
+        long shedCircuitOpen;
+
+        // Nanoseconds the caller must wait before proceeding; throws when the call is shed
+        synchronized long admit(String name) throws RejectedException {
+            long now = System.nanoTime();
+            if (state == State.OPEN) {
+                if (now < openUntil) {
+                    shedCircuitOpen++;
+                    throw new RejectedException(name, true, TimeUnit.NANOSECONDS.toMillis(openUntil - now));
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probeInFlight) {
+                    shedCircuitOpen++;
+                    throw new RejectedException(name, true, baseOpenMillis);
+                }
+                probeInFlight = true; // Exactly one trial call decides whether to close again
+            }
+
+            tokens = Math.min(burst, tokens + (now - refilledAt) / 1e9 * permitsPerSecond);
+            refilledAt = now;
+            long waitNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) / permitsPerSecond * 1e9);
+            if (waitNanos > maxWaitNanos) {
+                if (state == State.HALF_OPEN) probeInFlight = false;
+                shedRateLimited++;
+                throw new RejectedException(name, false, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            }
+            tokens -= 1;
+            admitted++;
+            if (waitNanos > 0) delayed++;
+            return waitNanos;
+        }
+
+        synchronized void onResponse(String name, int code, long retryAfterMillis, long millis) {
+            recordLatency(millis);
+            if (code == 429) {
+                // Multiplicative decrease: the server told us we are over quota
+                permitsPerSecond = Math.max(maxPermitsPerSecond * MIN_RATE_FRACTION, permitsPerSecond / 2);
+                tokens = Math.min(tokens, 0);
+            } else if (code < 500) {
+                // Additive increase back towards the configured rate
+                permitsPerSecond = Math.min(maxPermitsPerSecond,
+                        permitsPerSecond + maxPermitsPerSecond * MIN_RATE_FRACTION);
+            }
+            boolean failed = code == 429 || code >= 500 || millis > slowCallMillis;
+            recordOutcome(name, failed, retryAfterMillis);
+        }
+
+        synchronized void onFailure(String name, long millis) {
+            recordLatency(millis);
+            recordOutcome(name, true, 0);
+        }
+
+        synchronized void onCancelled() {
+            if (state == State.HALF_OPEN) probeInFlight = false; // Let the next caller probe instead
+        }
+
+        private void recordLatency(long millis) {
+            latencyEwmaMillis = latencyEwmaMillis < 0 ? millis
+                    : latencyEwmaMillis + LATENCY_ALPHA * (millis - latencyEwmaMillis);
+        }
+
+        private void recordOutcome(String name, boolean failed, long retryAfterMillis) {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+                if (failed) {
+                    trip(name, retryAfterMillis);
+                } else {
+                    Log.d(TAG, "Circuit closed for " + name);
+                    state = State.CLOSED;
+                    trips = 0;
+                    clearWindow();
+                }
+                return;
+            }
+            if (state == State.OPEN) return; // Straggler that was admitted before the trip
+
+            if (windowCount == WINDOW_SIZE && window[windowNext]) windowFailures--;
+            window[windowNext] = failed;
+            if (failed) windowFailures++;
+            windowNext = (windowNext + 1) % WINDOW_SIZE;
+            windowCount = Math.min(windowCount + 1, WINDOW_SIZE);
+
+            if (windowCount >= MIN_CALLS && windowFailures >= FAILURE_RATE_TO_OPEN * windowCount) {
+                trip(name, retryAfterMillis);
+            }
+        }
+
+        // Open the circuit, backing off exponentially on repeated trips
+        private void trip(String name, long retryAfterMillis) {
+            trips++;
+            long openMillis = Math.min(MAX_OPEN_MS, baseOpenMillis << Math.min(trips - 1, 16));
+            openMillis = Math.max(openMillis, Math.min(retryAfterMillis, MAX_OPEN_MS));
+            openUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(openMillis);
+            state = State.OPEN;
+            clearWindow();
+            Log.w(TAG, "Circuit opened for " + name + " for " + openMillis + "ms (trip " + trips + ")");
+        }
+
+        private void clearWindow() {
+            windowCount = 0;
+            windowNext = 0;
+            windowFailures = 0;
+        }
+
+        synchronized State currentState() {
+            return state == State.OPEN && System.nanoTime() >= openUntil ? State.HALF_OPEN : state;
+        }
+
+        synchronized String describe() {
+            double errorRate = windowCount == 0 ? 0 : (double) windowFailures / windowCount;
+            return String.format(Locale.US,
+                    "%s rate=%.1f/s errors=%.0f%% latency~%.0fms admitted=%d delayed=%d shed=%d+%d trips=%d",
+                    currentState(), permitsPerSecond, errorRate * 100, Math.max(0, latencyEwmaMillis),
+                    admitted, delayed, shedRateLimited, shedCircuitOpen, trips);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.wordguessinggame;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+// Always-on metrics for the word pipeline and leaderboard calls: per-endpoint latency histograms and
+// outcome counters, candidates per accepted word and round-ready time. Lock-free counters only, so it
+// stays enabled in release builds.
+public final class ApiMetrics implements Interceptor {
+    private static final ApiMetrics INSTANCE = new ApiMetrics();
+
+    // Round-ready sources
+    public static final String ROUND_SUPPLY = "supply";
+    public static final String ROUND_OFFLINE = "offline";
+    public static final String ROUND_POOL = "pool";
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> roundReady = new ConcurrentHashMap<>();
+    private final AtomicLongArray candidatesPerWord = new AtomicLongArray(WordAcquirer.MAX_CANDIDATES + 1);
+    private final LongAdder wordsAccepted = new LongAdder();
+    private final LongAdder acquisitionsFailed = new LongAdder();
+    private final LongAdder candidatesSpentOnFailures = new LongAdder();
+
+    public static ApiMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    ApiMetrics() {
+    }
+
+    // Times each call up to its response headers and counts the outcome
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        EndpointMetrics metrics = endpoint(NetworkTimings.endpointOf(request.url()));
+        long start = System.nanoTime();
+        try {
+            Response response = chain.proceed(request);
+            metrics.latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            metrics.recordCode(response.code());
+            return response;
+        } catch (IOException e) {
+            if (chain.call().isCanceled()) {
+                metrics.cancelled.increment(); // Losing speculative candidates, not real failures
+            } else {
+                metrics.failures.increment();
+            }
+            throw e;
+        }
+    }
+
+    // A word passed validation after trying this many candidates (1 = no retries)
+    public void recordWordAccepted(int candidates) {
+        wordsAccepted.increment();
+        candidatesPerWord.incrementAndGet(Math.max(1, Math.min(candidates, WordAcquirer.MAX_CANDIDATES)));
+    }
+
+    public void recordAcquisitionFailed(int candidates) {
+        acquisitionsFailed.increment();
+        candidatesSpentOnFailures.add(candidates);
+    }
+
+    // Time from asking for a word to the round being playable
+    public void recordRoundReady(String source, long millis) {
+        roundReady.computeIfAbsent(source, key -> new LatencyHistogram()).record(millis);
+    }
+
+    // Retries per accepted word (candidates beyond the first)
+    public double averageRetriesPerWord() {
+        long words = 0;
+        long retries = 0;
+        for (int candidates = 1; candidates < candidatesPerWord.length(); candidates++) {
+            long count = candidatesPerWord.get(candidates);
+            words += count;
+            retries += count * (candidates - 1);
+        }
+        return words == 0 ? 0 : (double) retries / words;
+    }
+
+    private EndpointMetrics endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new EndpointMetrics());
+    }
+
+    // Human-readable report for the metrics screen and logs
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, EndpointMetrics> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointMetrics metrics = entry.getValue();
+            sb.append(entry.getKey()).append('\n')
+                    .append("  ok=").append(metrics.successes.sum())
+                    .append(" failures=").append(metrics.failures.sum())
+                    .append(" cancelled=").append(metrics.cancelled.sum())
+                    .append(" codes=").append(metrics.codes()).append('\n')
+                    .append("  latency ").append(metrics.latency.describe()).append('\n');
+        }
+        sb.append("words accepted=").append(wordsAccepted.sum())
+                .append(" failed=").append(acquisitionsFailed.sum())
+                .append(String.format(Locale.US, " retries/word=%.2f", averageRetriesPerWord()))
+                .append('\n');
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(roundReady).entrySet()) {
+            sb.append("round ready (").append(entry.getKey()).append(") ")
+                    .append(entry.getValue().describe()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Machine-readable snapshot of everything above
+    public String toJson() {
+        StringWriter out = new StringWriter();
+        try (JsonWriter json = new JsonWriter(out)) {
+            json.setIndent("  ");
+            json.beginObject();
+            json.name("endpoints").beginObject();
+            for (Map.Entry<String, EndpointMetrics> entry : new TreeMap<>(endpoints).entrySet()) {
+                EndpointMetrics metrics = entry.getValue();
+                json.name(entry.getKey()).beginObject();
+                json.name("successes").value(metrics.successes.sum());
+                json.name("failures").value(metrics.failures.sum());
+                json.name("cancelled").value(metrics.cancelled.sum());
+                json.name("codes").beginObject();
+                for (Map.Entry<Integer, Long> code : metrics.codes().entrySet()) {
+                    json.name(String.valueOf(code.getKey())).value(code.getValue());
+                }
+                json.endObject();
+                json.name("latencyMs");
+                metrics.latency.writeJson(json);
+                json.endObject();
+            }
+            json.endObject();
+
+            json.name("words").beginObject();
+            json.name("accepted").value(wordsAccepted.sum());
+            json.name("failed").value(acquisitionsFailed.sum());
+            json.name("candidatesSpentOnFailures").value(candidatesSpentOnFailures.sum());
+            json.name("retriesPerWord").value(averageRetriesPerWord());
+            json.name("candidatesPerWord").beginObject();
+            for (int candidates = 1; candidates < candidatesPerWord.length(); candidates++) {
+                json.name(String.valueOf(candidates)).value(candidatesPerWord.get(candidates));
+            }
+            json.endObject();
+            json.endObject();
+
+            json.name("roundReadyMs").beginObject();
+            for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(roundReady).entrySet()) {
+                json.name(entry.getKey());
+                entry.getValue().writeJson(json);
+            }
+            json.endObject();
+            json.endObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // StringWriter doesn't throw
+        }
+        return out.toString();
+    }
+
+    // Outcome counters and latency for one endpoint
+    private static class EndpointMetrics {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final Map<Integer, LongAdder> codeCounts = new ConcurrentHashMap<>();
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder(); // No HTTP response at all
+        final LongAdder cancelled = new LongAdder();
+
+        void recordCode(int code) {
+            if (code >= 200 && code < 300) successes.increment();
+            codeCounts.computeIfAbsent(code, key -> new LongAdder()).increment();
+        }
+
+        Map<Integer, Long> codes() {
+            Map<Integer, Long> snapshot = new TreeMap<>();
+            for (Map.Entry<Integer, LongAdder> entry : codeCounts.entrySet()) {
+                snapshot.put(entry.getKey(), entry.getValue().sum());
+            }
+            return snapshot;
+        }
+    }
+
+    // Power-of-two millisecond buckets: [0,1), [1,2), [2,4) ... [16384,32768), then overflow
+    public static final class LatencyHistogram {
+        private static final int BUCKETS = 17;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        public void record(long millis) {
+            long value = Math.max(0, millis);
+            buckets.incrementAndGet(bucketOf(value));
+            count.increment();
+            totalMillis.add(value);
+            maxMillis.accumulateAndGet(value, Math::max);
+        }
+
+        static int bucketOf(long millis) {
+            int bucket = 64 - Long.numberOfLeadingZeros(millis); // 0 -> 0, 1 -> 1, 2..3 -> 2, ...
+            return Math.min(bucket, BUCKETS - 1);
+        }
+
+        // Exclusive upper bound of a bucket (the overflow bucket reports the max seen)
+        private long upperBound(int bucket) {
+            return bucket == BUCKETS - 1 ? maxMillis.get() : 1L << bucket;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double meanMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : (double) totalMillis.sum() / n;
+        }
+
+        // Upper bound of the bucket holding the given quantile (0..1)
+        public long percentileMillis(double quantile) {
+            long n = count.sum();
+            if (n == 0) return 0;
+            long rank = (long) Math.ceil(quantile * n);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += buckets.get(bucket);
+                if (seen >= rank) return Math.min(upperBound(bucket), maxMillis.get());
+            }
+            return maxMillis.get();
+        }
+
+        String describe() {
+            return String.format(Locale.US, "n=%d mean=%.0fms p50<=%dms p90<=%dms p99<=%dms max=%dms",
+                    getCount(), meanMillis(), percentileMillis(0.5), percentileMillis(0.9),
+                    percentileMillis(0.99), maxMillis.get());
+        }
+
+        void writeJson(JsonWriter json) throws IOException {
+            json.beginObject();
+            json.name("count").value(getCount());
+            json.name("mean").value(meanMillis());
+            json.name("p50").value(percentileMillis(0.5));
+            json.name("p90").value(percentileMillis(0.9));
+            json.name("p99").value(percentileMillis(0.99));
+            json.name("max").value(maxMillis.get());
+            json.name("buckets").beginArray(); // Counts per power-of-two bucket, see class comment
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                json.value(buckets.get(bucket));
+            }
+            json.endArray();
+            json.endObject();
+        }
+    }
+}
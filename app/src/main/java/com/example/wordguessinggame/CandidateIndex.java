@@ -0,0 +1,146 @@
+package com.example.wordguessinggame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+// Bitset index over the guess vocabulary for the "N words still match" hint. One bitset per word length and
+// per (letter, count) bucket; each revealed fact ANDs one bitset into the round's candidate set, so a hint
+// costs n/64 word operations and the count is a popcount, even for hundreds of thousands of words.
+public final class CandidateIndex {
+    static final int MAX_LENGTH = 32;   // Longer words share the last length bucket
+    static final int COUNT_BUCKETS = 3; // Exactly 1, exactly 2, 3 or more; "0" is the complement of all three
+    private static final int ALPHABET = 26;
+
+    private final String[] words; // Sorted, so ids come from a binary search
+    private final int blocks;
+    private final long[][] byLength = new long[MAX_LENGTH + 1][];
+    private final long[][][] byLetterCount = new long[ALPHABET][COUNT_BUCKETS][];
+    private final long[] all;
+
+    // Candidate set for one round; starts as the whole vocabulary
+    public final class Candidates {
+        private final long[] bits = all.clone();
+        private final int answerId; // Negative when the answer is not in the vocabulary
+        private final boolean answerListed;
+
+        private Candidates(String answer) {
+            answerId = indexOf(answer);
+            answerListed = answerId >= 0;
+        }
+
+        // Words still consistent with everything revealed. An answer missing from the vocabulary is
+        // consistent by definition, so it is counted on top of the listed matches.
+        public int count() {
+            int count = answerListed ? 0 : 1;
+            for (long block : bits) count += Long.bitCount(block);
+            return count;
+        }
+
+        public void matchLength(int length) {
+            and(bits, byLength[bucketOfLength(length)]);
+        }
+
+        // The word contains exactly count copies of the letter (3 stands for 3 or more)
+        public void matchLetterCount(char letter, int count) {
+            int index = WordProfile.letterIndex(letter);
+            if (index < 0) return;
+            long[][] buckets = byLetterCount[index];
+            if (count > 0) {
+                and(bits, buckets[Math.min(count, COUNT_BUCKETS) - 1]);
+                return;
+            }
+            for (long[] bucket : buckets) andNot(bits, bucket);
+        }
+
+        // A wrong guess rules out that one word
+        public void exclude(String word) {
+            int id = indexOf(word);
+            if (id >= 0) bits[id >>> 6] &= ~(1L << id);
+        }
+
+        // Only these words remain possible (e.g. the thesaurus neighbours of a synonym tip). The answer is
+        // consistent with any true hint, so it stays even if the list misses it.
+        public void restrictTo(Collection<String> allowed) {
+            long[] mask = new long[blocks];
+            if (answerListed) mask[answerId >>> 6] |= 1L << answerId;
+            for (String word : allowed) {
+                int id = indexOf(word);
+                if (id >= 0) mask[id >>> 6] |= 1L << id;
+            }
+            and(bits, mask);
+        }
+    }
+
+    public CandidateIndex(Collection<String> vocabulary) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String word : vocabulary) sorted.add(word.toLowerCase(Locale.ROOT));
+        words = sorted.toArray(new String[0]);
+        blocks = (words.length + 63) >>> 6;
+        all = new long[blocks];
+
+        int[] counts = new int[ALPHABET];
+        for (int id = 0; id < words.length; id++) {
+            String word = words[id];
+            all[id >>> 6] |= 1L << id;
+            set(byLength, bucketOfLength(word.length()), id);
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < word.length(); i++) {
+                int index = WordProfile.letterIndex(word.charAt(i));
+                if (index >= 0) counts[index]++;
+            }
+            for (int letter = 0; letter < ALPHABET; letter++) {
+                if (counts[letter] > 0) set(byLetterCount[letter], Math.min(counts[letter], COUNT_BUCKETS) - 1, id);
+            }
+        }
+    }
+
+    // Every word in the guess vocabulary, read from the graph in alphabetical order
+    public static CandidateIndex fromGraph(WordGraph graph) {
+        List<String> words = new ArrayList<>(graph.size());
+        for (char c = 'a'; c <= 'z'; c++) {
+            String letter = String.valueOf(c);
+            if (graph.contains(letter)) words.add(letter);
+            graph.complete(letter, Integer.MAX_VALUE, words);
+        }
+        return new CandidateIndex(words);
+    }
+
+    public Candidates newRound(String answer) {
+        return new Candidates(answer);
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    private int indexOf(String word) {
+        return word == null ? -1 : Arrays.binarySearch(words, word.toLowerCase(Locale.ROOT));
+    }
+
+    private static int bucketOfLength(int length) {
+        return Math.max(0, Math.min(length, MAX_LENGTH));
+    }
+
+    // Bitsets are allocated on first use; a missing one is empty
+    private void set(long[][] sets, int slot, int id) {
+        if (sets[slot] == null) sets[slot] = new long[blocks];
+        sets[slot][id >>> 6] |= 1L << id;
+    }
+
+    private static void and(long[] bits, long[] other) {
+        if (other == null) {
+            Arrays.fill(bits, 0);
+            return;
+        }
+        for (int i = 0; i < bits.length; i++) bits[i] &= other[i];
+    }
+
+    private static void andNot(long[] bits, long[] other) {
+        if (other == null) return;
+        for (int i = 0; i < bits.length; i++) bits[i] &= ~other[i];
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.wordguessinggame;
+
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Single-flight layer in front of ApiService: concurrent thesaurus lookups for the same word share one
+// network call. Random words are never coalesced, since every caller wants a different one.
+// The delegate should call back on its network threads (Retrofit callbackExecutor(Runnable::run)), so a flight
+// completes without the main thread even while blocked execute() callers wait on it; enqueue() callbacks are
+// handed to callbackExecutor instead.
+public class CoalescingApiService implements ApiService {
+    private final ApiService delegate;
+    private final Executor callbackExecutor;
+    private final Map<String, Flight> flights = new HashMap<>(); // Guarded by itself
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong saved = new AtomicLong();
+
+    public CoalescingApiService(ApiService delegate, Executor callbackExecutor) {
+        this.delegate = delegate;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    // enqueue() callbacks run on whichever thread completes the shared call
+    public CoalescingApiService(ApiService delegate) {
+        this(delegate, Runnable::run);
+    }
+
+    @Override
+    public Call<RandomWordResponse> getRandomWord() {
+        return delegate.getRandomWord();
+    }
+
+    @Override
+    public Call<ThesaurusResponse> getSynonyms(String word) {
+        return new CoalescedCall(word);
+    }
+
+    // Network calls actually made
+    public long getStartedCount() {
+        return started.get();
+    }
+
+    // Calls answered by joining one already in flight
+    public long getSavedCount() {
+        return saved.get();
+    }
+
+    public String describeStats() {
+        return "thesaurus calls started=" + getStartedCount() + " saved=" + getSavedCount();
+    }
+
+    // Joins the in-flight call for word, starting one if there is none
+    private Flight join(String word) {
+        String key = word.trim().toLowerCase(Locale.ROOT);
+        Flight flight;
+        boolean leader;
+        synchronized (flights) {
+            flight = flights.get(key);
+            leader = flight == null;
+            if (leader) {
+                flight = new Flight(key, delegate.getSynonyms(word));
+                flights.put(key, flight);
+            }
+            flight.waiters++;
+        }
+        if (leader) {
+            started.incrementAndGet();
+            flight.start();
+        } else {
+            saved.incrementAndGet();
+        }
+        return flight;
+    }
+
+    private void leave(Flight flight) {
+        boolean abandoned;
+        synchronized (flights) {
+            abandoned = --flight.waiters == 0 && !flight.result.isDone();
+            if (abandoned) flights.remove(flight.key, flight);
+        }
+        if (abandoned) flight.call.cancel(); // Nobody is waiting any more
+    }
+
+    // One shared network call and its eventual response
+    private class Flight {
+        final String key;
+        final Call<ThesaurusResponse> call;
+        final CompletableFuture<Response<ThesaurusResponse>> result = new CompletableFuture<>();
+        int waiters; // Guarded by flights
+
+        Flight(String key, Call<ThesaurusResponse> call) {
+            this.key = key;
+            this.call = call;
+        }
+
+        void start() {
+            call.enqueue(new Callback<>() {
+                @Override
+                public void onResponse(@NonNull Call<ThesaurusResponse> call,
+                                       @NonNull Response<ThesaurusResponse> response) {
+                    finish();
+                    result.complete(response);
+                }
+
+                @Override
+                public void onFailure(@NonNull Call<ThesaurusResponse> call, @NonNull Throwable t) {
+                    finish();
+                    result.completeExceptionally(t);
+                }
+            });
+        }
+
+        // Later callers start a fresh call; caching answers is SynonymCache's job
+        private void finish() {
+            synchronized (flights) {
+                flights.remove(key, this);
+            }
+        }
+    }
+
+    // Per-caller view of a shared flight; each caller gets its own copy of the synonym list
+    private class CoalescedCall implements Call<ThesaurusResponse> {
+        private final String word;
+        private final CompletableFuture<Response<ThesaurusResponse>> mine = new CompletableFuture<>();
+        private Flight flight;
+        private volatile boolean executed;
+        private volatile boolean canceled;
+
+        CoalescedCall(String word) {
+            this.word = word;
+        }
+
+        // Joins the shared flight; false when the call was cancelled before it started
+        private synchronized boolean attach() {
+            if (executed) throw new IllegalStateException("Already executed.");
+            executed = true;
+            if (canceled) return false;
+            flight = join(word);
+            flight.result.whenComplete((response, error) -> {
+                if (error != null) {
+                    mine.completeExceptionally(error);
+                } else {
+                    mine.complete(copyOf(response));
+                }
+            });
+            return true;
+        }
+
+        @Override
+        public Response<ThesaurusResponse> execute() throws IOException {
+            if (!attach()) throw new IOException("Canceled");
+            try {
+                return mine.get();
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for shared call");
+            } catch (ExecutionException e) {
+                throw asIOException(e.getCause());
+            } catch (java.util.concurrent.CancellationException e) {
+                throw new IOException("Canceled");
+            }
+        }
+
+        @Override
+        public void enqueue(Callback<ThesaurusResponse> callback) {
+            if (!attach()) {
+                callbackExecutor.execute(() -> callback.onFailure(this, new IOException("Canceled")));
+                return;
+            }
+            mine.whenComplete((response, error) -> callbackExecutor.execute(() -> {
+                if (canceled) {
+                    callback.onFailure(this, new IOException("Canceled"));
+                } else if (error != null) {
+                    callback.onFailure(this, error);
+                } else {
+                    callback.onResponse(this, response);
+                }
+            }));
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return executed;
+        }
+
+        // Stops waiting; the shared call is only cancelled once every caller has gone
+        @Override
+        public void cancel() {
+            Flight joined;
+            synchronized (this) {
+                if (canceled) return;
+                canceled = true;
+                joined = flight;
+            }
+            if (joined != null) {
+                leave(joined);
+                mine.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+
+        @SuppressWarnings("MethodDoesntCallSuperMethod")
+        @Override
+        public Call<ThesaurusResponse> clone() {
+            return new CoalescedCall(word);
+        }
+
+        @Override
+        public Request request() {
+            return delegate.getSynonyms(word).request();
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+    }
+
+    // Callers filter and reorder synonym lists in place, so nobody may share one
+    private static Response<ThesaurusResponse> copyOf(Response<ThesaurusResponse> response) {
+        ThesaurusResponse body = response.body();
+        if (!response.isSuccessful() || body == null) return response;
+        ThesaurusResponse copy = new ThesaurusResponse();
+        copy.synonyms = body.synonyms != null ? new ArrayList<>(body.synonyms) : null;
+        return Response.success(copy, response.raw());
+    }
+
+    private static IOException asIOException(Throwable error) {
+        if (error instanceof IOException) return (IOException) error;
+        return new IOException(error);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.wordguessinggame;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Word ids bucketed into equal-sized difficulty bands. Each band is a deck dealt by incremental Fisher-Yates:
+// ids before the cursor were dealt this cycle, so a pick is O(1) and nothing repeats until the band is
+// exhausted. A ring of recently played ids keeps repeats apart across cycles and bands.
+public final class DifficultyIndex {
+    // Index config defaults
+    public static final int DEFAULT_BANDS = 10;
+    public static final int DEFAULT_RECENT = 50;
+
+    private final float[] scores;
+    private final float[] cutoffs; // Lowest score of bands 1..n-1, fixed at build time
+    private final int[][] decks;
+    private final int[] deckSizes;
+    private final int[] cursors;
+    private final int[] bandOf;
+    private final int[] positionOf;
+    private final int[] recent;
+    private final boolean[] isRecent;
+    private int recentNext;
+    private int recentCount;
+    private final Random random;
+
+    // scores[id] is the difficulty of word id; the array is owned by the index from here on
+    public DifficultyIndex(float[] scores, int bands, int recentCapacity, Random random) {
+        int count = scores.length;
+        this.scores = scores;
+        this.random = random;
+        bands = Math.max(1, Math.min(bands, Math.max(1, count)));
+
+        // Quantile cutoffs so every band starts with the same share of the pool
+        float[] sorted = scores.clone();
+        Arrays.sort(sorted);
+        cutoffs = new float[bands - 1];
+        for (int band = 1; band < bands; band++) {
+            cutoffs[band - 1] = sorted[(int) ((long) band * count / bands)];
+        }
+
+        bandOf = new int[count];
+        positionOf = new int[count];
+        deckSizes = new int[bands];
+        for (int id = 0; id < count; id++) {
+            bandOf[id] = bandFor(scores[id]);
+            deckSizes[bandOf[id]]++;
+        }
+        decks = new int[bands][];
+        for (int band = 0; band < bands; band++) {
+            decks[band] = new int[Math.max(4, deckSizes[band])];
+            deckSizes[band] = 0;
+        }
+        for (int id = 0; id < count; id++) {
+            append(bandOf[id], id);
+        }
+        cursors = new int[bands];
+
+        recent = new int[Math.max(0, Math.min(recentCapacity, count - 1))];
+        isRecent = new boolean[count];
+    }
+
+    public int size() {
+        return scores.length;
+    }
+
+    public int bandCount() {
+        return decks.length;
+    }
+
+    public int bandSize(int band) {
+        return deckSizes[band];
+    }
+
+    public int bandOf(int id) {
+        return bandOf[id];
+    }
+
+    public float scoreOf(int id) {
+        return scores[id];
+    }
+
+    // Band a score falls into: binary search over the cutoffs
+    public int bandFor(float score) {
+        int low = 0;
+        int high = cutoffs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (score >= cutoffs[mid]) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // A word from the requested band (or the nearest non-empty one) not played recently; -1 when empty
+    public int select(int band) {
+        band = Math.max(0, Math.min(band, decks.length - 1));
+        for (int distance = 0; distance < decks.length; distance++) {
+            int id = selectFrom(band + distance);
+            if (id < 0 && distance > 0) id = selectFrom(band - distance);
+            if (id >= 0) {
+                markPlayed(id);
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    private int selectFrom(int band) {
+        if (band < 0 || band >= decks.length || deckSizes[band] == 0) return -1;
+        int[] deck = decks[band];
+        int size = deckSizes[band];
+        int fallback = -1;
+        for (int tries = 0; tries < size; tries++) {
+            if (cursors[band] == size) cursors[band] = 0; // Whole band dealt: start the next cycle
+            int cursor = cursors[band];
+            swap(deck, cursor, cursor + random.nextInt(size - cursor));
+            cursors[band] = cursor + 1;
+            int id = deck[cursor];
+            if (!isRecent[id]) return id;
+            if (fallback < 0) fallback = id;
+        }
+        return fallback; // Every word in the band was played recently
+    }
+
+    // Keep a word out of selection for the next recentCapacity picks
+    public void markPlayed(int id) {
+        if (recent.length == 0 || isRecent[id]) return;
+        if (recentCount == recent.length) {
+            isRecent[recent[recentNext]] = false;
+        } else {
+            recentCount++;
+        }
+        recent[recentNext] = id;
+        isRecent[id] = true;
+        recentNext = (recentNext + 1) % recent.length;
+    }
+
+    // Re-score a word, moving it to its new band in O(1) plus the cutoff search
+    public void update(int id, float score) {
+        scores[id] = score;
+        int band = bandFor(score);
+        int old = bandOf[id];
+        if (band == old) return;
+
+        // Keep the dealt/undealt split intact: pull the id to the end of the dealt part first
+        int[] deck = decks[old];
+        int position = positionOf[id];
+        if (position < cursors[old]) {
+            int lastDealt = --cursors[old];
+            swap(deck, position, lastDealt);
+            position = lastDealt;
+        }
+        swap(deck, position, --deckSizes[old]);
+
+        bandOf[id] = band;
+        append(band, id); // Lands in the undealt part of the new band
+    }
+
+    private void append(int band, int id) {
+        if (deckSizes[band] == decks[band].length) {
+            decks[band] = Arrays.copyOf(decks[band], decks[band].length * 2);
+        }
+        int position = deckSizes[band]++;
+        decks[band][position] = id;
+        positionOf[id] = position;
+    }
+
+    private void swap(int[] deck, int i, int j) {
+        int a = deck[i];
+        int b = deck[j];
+        deck[i] = b;
+        deck[j] = a;
+        positionOf[a] = j;
+        positionOf[b] = i;
+    }
+}
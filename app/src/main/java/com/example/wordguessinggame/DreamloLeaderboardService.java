@@ -0,0 +1,27 @@
+package com.example.wordguessinggame;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+
+// Retrofit interface for Dreamlo leaderboard endpoints
+public interface DreamloLeaderboardService {
+
+    // Fetch the whole board as JSON (decoded by LeaderboardConverterFactory)
+    @GET("{publicCode}/json")
+    Call<LeaderboardPage> getLeaderboard(@Path("publicCode") String publicCode);
+
+    // Fetch take rows starting at rank skip + 1
+    @GET("{publicCode}/json/{skip}/{take}")
+    Call<LeaderboardPage> getLeaderboardPage(@Path("publicCode") String publicCode,
+                                             @Path("skip") int skip,
+                                             @Path("take") int take);
+
+    // Add or update a player's score (Dreamlo answers with plain text)
+    @GET("{privateCode}/add/{name}/{score}/{seconds}")
+    Call<ResponseBody> addScore(@Path("privateCode") String privateCode,
+                                @Path("name") String name,
+                                @Path("score") int score,
+                                @Path("seconds") long seconds);
+}
@@ -4,8 +4,11 @@ import android.content.Context;
 import android.net.ConnectivityManager;
 import android.net.NetworkInfo;
 import android.os.Bundle;
-import android.os.CountDownTimer;
+import android.os.SystemClock;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.util.Log;
+import android.view.Choreographer;
 import android.view.View;
 import android.view.inputmethod.EditorInfo;
 import android.view.inputmethod.InputMethodManager;
@@ -16,47 +19,88 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
+import com.google.android.material.chip.Chip;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
 import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
-import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
 
 public class GameActivity extends AppCompatActivity {
     // UI Components
-    private TextView tvScore, tvTimer, tvAttempts, tvWordLength, tvSynonymHint;
+    private TextView tvScore, tvTimer, tvAttempts, tvWordLength, tvSynonymHint, tvCandidates;
     private EditText etGuess;
     private TextView tvCheckedLetters;
 
-    // Game state variables
-    private String secretWord = "";
-    private int score = 100;
-    private int attemptsLeft = 10;
-    private long timeElapsed = 0;
-    private int totalAttempts = 0;
+    // Game state variables (rules live in the engine)
+    private final GameEngine engine = new GameEngine();
+    private final GameClock gameClock = new GameClock(SystemClock::elapsedRealtime);
     private Prefs prefs;
     private ApiService apiService;
-    private CountDownTimer timer;
+    private ScoreOutbox scoreOutbox;
+    private LeaderboardRankIndex rankIndex;
+    private WordSupply wordSupply;
+    private SynonymCache synonymCache;
+    private OfflineDictionary offlineDictionary;
+    private WordGraph wordGraph; // Guess vocabulary; null if the asset is missing
+    private CandidateIndex.Candidates candidates; // Words still consistent with this round's hints
+    private WordPool wordPool;
+    private int roundsWon; // In a row; drives the difficulty ramp
+
+    // Timer display: refreshed on a display frame when the shown second changes, only while visible
+    private boolean isVisible = false;
+    private boolean isTimerFrameScheduled = false;
+    private long shownSeconds = -1;
+    private final Choreographer.FrameCallback timerFrame = frameTimeNanos -> {
+        isTimerFrameScheduled = false;
+        renderTimer();
+        scheduleTimerFrame();
+    };
 
     // Game config constants
-    private static final int LETTER_COST = 5;
-    private static final int TIP_COST = 10;
-    private static final int MAX_SYNONYM_RETRIES = 5;
-
-    // Feature flags
-    private boolean isWordLengthRevealed = false;
-    private boolean isTipUsedThisWord = false;
+    private static final int HINT_POOL_SIZE = 3; // Tip picks among the best-ranked synonyms
+    private static final int MAX_SYNONYM_RETRIES = 5; // Refunded tips that may be retried on one word
     private int synonymRetryCount = 0;
-    private final HashMap<Character, Integer> checkedLetters = new HashMap<>();
+
+    private final StringBuilder checkedLettersText = new StringBuilder();
+
+    // Near-miss line under the guess field; only re-rendered when its numbers change
+    private TextView tvGuessFeedback;
+    private int shownDistance = -1;
+    private int shownShared = -1;
+
+    // Prefix completions from the word graph, shown as tappable chips under the guess field
+    private static final int SUGGESTIONS = 3;
+    private final List<String> completions = new ArrayList<>(SUGGESTIONS);
+    private View suggestionGroup;
+    private Chip[] suggestionChips;
+
+    // Round-ready timing for ApiMetrics
+    private long wordRequestedAt;
+    private String wordSource = ApiMetrics.ROUND_SUPPLY;
+
+    // Receives prepared words from the shared supply
+    private final WordSupply.WordCallback wordCallback = new WordSupply.WordCallback() {
+        @Override
+        public void onWordReady(PreparedWord word) {
+            runOnUiThread(() -> {
+                engine.startWord(word.word);
+                startCandidates(word.word);
+                ApiMetrics.getInstance().recordRoundReady(wordSource,
+                        SystemClock.elapsedRealtime() - wordRequestedAt);
+                Log.d("API", "Word ready (" + wordSupply.describeStats() + ")");
+                resetWordSpecificState();
+            });
+        }
+
+        @Override
+        public void onWordUnavailable() {
+            handleWordFetchFailure();
+        }
+    };
 
     // Check network connectivity
     private boolean isOffline() {
@@ -82,16 +126,69 @@ public class GameActivity extends AppCompatActivity {
         tvWordLength = findViewById(R.id.tvWordLength);
         tvSynonymHint = findViewById(R.id.tvSynonymHint);
         tvCheckedLetters = findViewById(R.id.tvCheckedLetters);
+        tvGuessFeedback = findViewById(R.id.tvGuessFeedback);
+        tvCandidates = findViewById(R.id.tvCandidates);
+        suggestionGroup = findViewById(R.id.cgSuggestions);
+        suggestionChips = new Chip[]{findViewById(R.id.chipSuggestion1), findViewById(R.id.chipSuggestion2),
+                findViewById(R.id.chipSuggestion3)};
+        etGuess.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                showCompletions(s);
+            }
+        });
     }
 
-    // Initialize game environment
-    private void setupGame() {
-        if (isOffline()) {
-            showNetworkErrorAndFinish();
-            return;
+    // Up to SUGGESTIONS dictionary words that extend what has been typed so far
+    private void showCompletions(CharSequence typed) {
+        completions.clear();
+        if (wordGraph != null && engine.getPhase() == GameEngine.Phase.PLAYING) {
+            wordGraph.complete(typed, SUGGESTIONS, completions);
+        }
+        for (int i = 0; i < suggestionChips.length; i++) {
+            if (i < completions.size()) {
+                suggestionChips[i].setText(completions.get(i));
+                suggestionChips[i].setVisibility(View.VISIBLE);
+            } else {
+                suggestionChips[i].setVisibility(View.GONE);
+            }
         }
+        suggestionGroup.setVisibility(completions.isEmpty() ? View.GONE : View.VISIBLE);
+    }
+
+    // Tapping a suggestion fills the guess field with it
+    public void onSuggestionClick(View view) {
+        etGuess.setText(((Chip) view).getText());
+        etGuess.setSelection(etGuess.length());
+    }
+
+    // Measure a wrong guess against the secret word (allocation-free) and show how close it was. Only submitted
+    // guesses are measured, so the line can't reveal letters or the length before they are paid for.
+    private void showGuessFeedback(CharSequence guess) {
+        GuessFeedback feedback = engine.getFeedback();
+        feedback.measure(guess);
+        if (feedback.getGuessLength() == 0) return;
+        int distance = feedback.getDistance();
+        int shared = feedback.getSharedLetters();
+        if (distance == shownDistance && shared == shownShared) return;
+        shownDistance = distance;
+        shownShared = shared;
+        tvGuessFeedback.setText(getString(R.string.guess_feedback_last, distance, shared));
+        tvGuessFeedback.setVisibility(View.VISIBLE);
+    }
 
+    // Initialize game environment
+    private void setupGame() {
         prefs = new Prefs(this);
+        scoreOutbox = ScoreOutbox.getInstance(this);
         setupRetrofit();
         fetchNewWord();
         startTimer();
@@ -108,86 +205,43 @@ public class GameActivity extends AppCompatActivity {
                 .show();
     }
 
-    // Configure API client
+    // Use the shared API clients
     private void setupRetrofit() {
-        Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl("https://api.api-ninjas.com/")
-                .addConverterFactory(GsonConverterFactory.create())
-                .build();
-        apiService = retrofit.create(ApiService.class);
-    }
-
-    // Request random word from API
+        apiService = NetworkModule.getInstance().getApiService();
+        synonymCache = SynonymCache.getInstance(this);
+        offlineDictionary = OfflineDictionary.getInstance(this);
+        wordGraph = OfflineDictionary.getWordGraph(this);
+        if (wordGraph != null) engine.setVocabulary(wordGraph::contains);
+        OfflineDictionary.getCandidateIndex(this); // Start building it for the "words still match" line
+        wordSupply = WordSupply.getInstance(this);
+        wordPool = WordPool.getInstance(this);
+        rankIndex = LeaderboardRankIndex.getInstance(this);
+    }
+
+    // Take the next word from the difficulty pool (easy to hard). The background supply only serves rounds
+    // while the pool is still indexing or when there is no bundled dictionary (offline: a random bundled word).
     private void fetchNewWord() {
+        wordRequestedAt = SystemClock.elapsedRealtime();
+        if (wordPool != null) {
+            PreparedWord pooled = wordPool.next(WordPool.bandForStreak(roundsWon));
+            if (pooled != null) {
+                wordSource = ApiMetrics.ROUND_POOL;
+                wordCallback.onWordReady(pooled);
+                return;
+            }
+        }
         if (isOffline()) {
-            showNetworkErrorAndFinish();
+            wordSource = ApiMetrics.ROUND_OFFLINE;
+            if (offlineDictionary == null) {
+                showNetworkErrorAndFinish();
+            } else {
+                wordCallback.onWordReady(offlineDictionary.randomPreparedWord(new Random()));
+            }
             return;
         }
 
-        apiService.getRandomWord().enqueue(new Callback<>() {
-            @Override
-            public void onResponse(@NonNull Call<RandomWordResponse> call,
-                                   @NonNull Response<RandomWordResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    secretWord = response.body().getWord().toLowerCase();
-                    Log.d("API", "Checking synonyms for: " + secretWord);
-                    validateWordHasSynonyms();
-                } else {
-                    handleWordFetchFailure();
-                }
-            }
-
-            @Override
-            public void onFailure(@NonNull Call<RandomWordResponse> call,
-                                  @NonNull Throwable t) {
-                handleWordFetchFailure();
-            }
-        });
-    }
-
-    // Check if the word has valid synonyms
-    private void validateWordHasSynonyms() {
-        apiService.getSynonyms(secretWord).enqueue(new Callback<>() {
-            @Override
-            public void onResponse(@NonNull Call<ThesaurusResponse> call,
-                                   @NonNull Response<ThesaurusResponse> response) {
-                if (response.isSuccessful()) {
-                    ThesaurusResponse thesaurusResponse = response.body();
-                    if (hasValidSynonyms(thesaurusResponse)) {
-                        synonymRetryCount = 0;
-                        resetWordSpecificState();
-                    } else {
-                        handleInvalidSynonyms();
-                    }
-                } else {
-                    handleInvalidSynonyms();
-                }
-            }
-
-            @Override
-            public void onFailure(@NonNull Call<ThesaurusResponse> call,
-                                  @NonNull Throwable t) {
-                handleInvalidSynonyms();
-            }
-        });
-    }
-
-    // Verify synonym quality
-    private boolean hasValidSynonyms(ThesaurusResponse response) {
-        return response != null &&
-                response.synonyms != null &&
-                !filterValidSynonyms(response.synonyms).isEmpty();
-    }
-
-    // Retry word fetch if synonyms are invalid
-    private void handleInvalidSynonyms() {
-        if (synonymRetryCount < MAX_SYNONYM_RETRIES) {
-            synonymRetryCount++;
-            Log.d("API", "Retrying word fetch (" + synonymRetryCount + "/" + MAX_SYNONYM_RETRIES + ")");
-            fetchNewWord();
-        } else {
-            useFallbackWord();
-        }
+        wordSource = ApiMetrics.ROUND_SUPPLY;
+        wordSupply.take(wordCallback);
     }
 
     // Handle API failures gracefully
@@ -205,70 +259,52 @@ public class GameActivity extends AppCompatActivity {
         });
     }
 
-    // Filter invalid synonyms from API response
-    private List<String> filterValidSynonyms(List<String> synonyms) {
-        List<String> valid = new ArrayList<>();
-        for (String syn : synonyms) {
-            if (isValidSynonym(syn)) {
-                valid.add(syn);
-            }
-        }
-        return valid;
-    }
-
-    // Validate synonym format and uniqueness
-    private boolean isValidSynonym(String synonym) {
-        return synonym != null &&
-                !synonym.trim().isEmpty() &&
-                !synonym.equalsIgnoreCase(secretWord) &&
-                synonym.matches("^[a-zA-Z-']+(\\s+[a-zA-Z-']+)*$");
-    }
-
-    // Reset state for a new word
+    // Reset hint views for a new word (the engine already reset its per-word state)
     private void resetWordSpecificState() {
-        isWordLengthRevealed = false;
-        isTipUsedThisWord = false;
-        checkedLetters.clear();
-
         runOnUiThread(() -> {
             tvWordLength.setVisibility(View.GONE);
             tvSynonymHint.setVisibility(View.GONE);
             findViewById(R.id.btnWordLength).setEnabled(true);
             findViewById(R.id.btnTip).setEnabled(true);
             findViewById(R.id.btnTip).setVisibility(View.GONE);
+            synonymRetryCount = 0;
             tvCheckedLetters.setVisibility(View.GONE);
             tvCheckedLetters.setText("");
+            tvGuessFeedback.setVisibility(View.GONE);
+            shownDistance = -1;
+            shownShared = -1;
         });
 
-        totalAttempts = 0;
-        Log.d("GameState", "Resetting attempts counter: " + totalAttempts);
-    }
-
-    // Fallback method when word fetching fails
-    private void useFallbackWord() {
-        showNetworkErrorAndFinish();
+        Log.d("GameState", "Resetting attempts counter: " + engine.getWordAttempts());
     }
 
     // Handle user's guess submission
     public void onSubmitGuess(View view) {
-        String guess = etGuess.getText().toString().trim().toLowerCase();
-        if (guess.isEmpty()) return;
-
-        attemptsLeft--;
-        totalAttempts++;
+        GameEngine.GuessResult result = engine.submitGuess(etGuess.getText().toString());
+        if (result == GameEngine.GuessResult.IGNORED) return;
+        if (result == GameEngine.GuessResult.NOT_A_WORD) {
+            Toast.makeText(this, R.string.not_a_word, Toast.LENGTH_SHORT).show(); // No attempt spent
+            return;
+        }
+        if (result == GameEngine.GuessResult.INCORRECT) {
+            showGuessFeedback(etGuess.getText()); // Stays up once updateUI() clears the field
+            if (candidates != null) {
+                candidates.exclude(etGuess.getText().toString().trim());
+                showCandidateCount();
+            }
+        }
 
-        // Show tip button after 5 attempts
-        if (totalAttempts >= 5) {
+        // Show tip button once enough attempts were spent on this word
+        if (engine.isTipUnlocked()) {
+            int attempts = engine.getWordAttempts();
             runOnUiThread(() -> {
                 findViewById(R.id.btnTip).setVisibility(View.VISIBLE);
-                Log.d("HintButton", "Showing tip button at attempt: " + totalAttempts);
+                Log.d("HintButton", "Showing tip button at attempt: " + attempts);
             });
         }
 
-        if (guess.equals(secretWord)) {
+        if (result == GameEngine.GuessResult.CORRECT) {
             handleCorrectGuess();
-        } else {
-            handleIncorrectGuess();
         }
 
         updateUI();
@@ -277,20 +313,16 @@ public class GameActivity extends AppCompatActivity {
 
     // Process correct guess
     private void handleCorrectGuess() {
-        score += 50;
+        recordRoundResult(true);
+        String rankLine = describeRank(); // Before the player's own row joins the index
         postToLeaderboard();
-        showSuccessDialog();
+        showSuccessDialog(rankLine);
         resetRound();
     }
 
-    // Process incorrect guess
-    private void handleIncorrectGuess() {
-        score = Math.max(0, score - 10);
-    }
-
     // Handle letter check hint feature
     public void onCheckLetter(View view) {
-        if (score < LETTER_COST) {
+        if (engine.getScore() < GameEngine.LETTER_COST) {
             showPointsWarning();
             return;
         }
@@ -322,81 +354,114 @@ public class GameActivity extends AppCompatActivity {
         imm.showSoftInput(input, InputMethodManager.SHOW_IMPLICIT);
     }
 
-    // Update the checked letters display
-    private void updateCheckedLettersDisplay() {
-        StringBuilder sb = new StringBuilder("Checked letters: ");
-        for (Map.Entry<Character, Integer> entry : checkedLetters.entrySet()) {
-            sb.append(entry.getKey())
-                    .append("(")
-                    .append(entry.getValue())
-                    .append(") ");
+    // Fresh candidate set for a new word: the whole vocabulary (hidden until the index has been built)
+    private void startCandidates(String word) {
+        CandidateIndex index = OfflineDictionary.getCandidateIndex(this);
+        candidates = index != null ? index.newRound(word) : null;
+        showCandidateCount();
+    }
+
+    // "N words still match", recounted after every hint and wrong guess
+    private void showCandidateCount() {
+        if (candidates == null) {
+            tvCandidates.setVisibility(View.GONE);
+            return;
         }
+        int count = candidates.count();
+        tvCandidates.setText(getResources().getQuantityString(R.plurals.candidates_left, count, count));
+        tvCandidates.setVisibility(View.VISIBLE);
+    }
 
+    // Update the checked letters display from the word profile
+    private void updateCheckedLettersDisplay() {
         runOnUiThread(() -> {
-            tvCheckedLetters.setText(sb.toString().trim());
+            checkedLettersText.setLength(0);
+            checkedLettersText.append(getString(R.string.checked_letters)).append(' ');
+            engine.getProfile().appendCheckedLetters(checkedLettersText);
+            tvCheckedLetters.setText(checkedLettersText.toString());
             tvCheckedLetters.setVisibility(View.VISIBLE);
         });
     }
 
     // Process letter check and update score
     private void processLetterCheck(String input) {
-        if (input.length() == 1) {
-            score = Math.max(0, score - LETTER_COST);
-            char letter = input.toLowerCase().charAt(0);
-            int count = countLetterOccurrences(letter);
-
-            checkedLetters.put(letter, count);
+        GameEngine.HintResult result = input.length() == 1 ? engine.checkLetter(input.charAt(0))
+                : GameEngine.HintResult.NOT_AVAILABLE;
+        if (result == GameEngine.HintResult.NOT_ENOUGH_POINTS) {
+            showPointsWarning();
+        } else if (result == GameEngine.HintResult.NOT_AVAILABLE && engine.getPhase() == GameEngine.Phase.PLAYING) {
+            Toast.makeText(this, R.string.letter_only, Toast.LENGTH_SHORT).show(); // Nothing charged
+        } else if (result == GameEngine.HintResult.GRANTED) {
             updateCheckedLettersDisplay();
+            if (candidates != null) {
+                char letter = Character.toLowerCase(input.charAt(0));
+                candidates.matchLetterCount(letter, engine.getProfile().checkedCount(letter));
+                showCandidateCount();
+            }
 
             updateUI();
         }
     }
 
-    // Count occurrences of a letter in secret word
-    private int countLetterOccurrences(char letter) {
-        return (int) secretWord.chars()
-                .filter(c -> c == letter)
-                .count();
-    }
-
     // Handle word length hint feature
     public void onWordLength(View view) {
-        if (isWordLengthRevealed || score < LETTER_COST) {
-            if (score < LETTER_COST) showPointsWarning();
+        GameEngine.HintResult result = engine.revealLength();
+        if (result != GameEngine.HintResult.GRANTED) {
+            if (result == GameEngine.HintResult.NOT_ENOUGH_POINTS) showPointsWarning();
             return;
         }
 
-        score -= LETTER_COST;
-        isWordLengthRevealed = true;
-
         runOnUiThread(() -> {
-            tvWordLength.setText(getString(R.string.word_length, secretWord.length()));
+            tvWordLength.setText(getString(R.string.word_length, engine.getProfile().getLength()));
             tvWordLength.setVisibility(View.VISIBLE);
             findViewById(R.id.btnWordLength).setEnabled(false);
+            if (candidates != null) {
+                candidates.matchLength(engine.getProfile().getLength());
+                showCandidateCount();
+            }
         });
         updateUI();
     }
 
     // Handle synonym tip feature
     public void onRequestTip(View view) {
-        if (isTipUsedThisWord || score < TIP_COST) {
-            if (score < TIP_COST) showPointsWarning();
+        GameEngine.HintResult result = engine.requestTip();
+        if (result != GameEngine.HintResult.GRANTED) {
+            if (result == GameEngine.HintResult.NOT_ENOUGH_POINTS) showPointsWarning();
             return;
         }
 
-        score -= TIP_COST;
-        isTipUsedThisWord = true;
-
         runOnUiThread(() -> findViewById(R.id.btnTip).setEnabled(false));
 
         fetchSynonyms();
         updateUI();
     }
 
-    // Fetch synonyms for hint
+    // Fetch synonyms for hint, answering from the cache when the word was already validated. A cache miss
+    // may read the cache file, so the lookup runs off the main thread.
     private void fetchSynonyms() {
+        String secretWord = engine.getSecretWord();
+        synonymCache.getAsync(secretWord, cached -> runOnUiThread(() -> {
+            if (!secretWord.equals(engine.getSecretWord())) return; // The round has moved on
+            if (cached != null) {
+                showSingleSynonym(cached.synonyms, false);
+            } else {
+                fetchUncachedSynonyms(secretWord);
+            }
+        }));
+    }
+
+    // Bundled thesaurus first, then the API
+    private void fetchUncachedSynonyms(String secretWord) {
+        ThesaurusResponse bundled = offlineDictionary != null ? offlineDictionary.thesaurus(secretWord) : null;
+        if (bundled != null) {
+            showSingleSynonym(bundled.synonyms, true);
+            return;
+        }
+
         if (isOffline()) {
             Toast.makeText(this, "Internet connection required for tips", Toast.LENGTH_LONG).show();
+            refundTip(secretWord, true);
             return;
         }
 
@@ -406,10 +471,12 @@ public class GameActivity extends AppCompatActivity {
                                    @NonNull Response<ThesaurusResponse> response) {
                 if (response.isSuccessful()) {
                     ThesaurusResponse thesaurusResponse = response.body();
+                    synonymCache.put(secretWord, thesaurusResponse);
                     if (thesaurusResponse != null && thesaurusResponse.synonyms != null) {
-                        showSingleSynonym(thesaurusResponse.synonyms);
+                        showSingleSynonym(thesaurusResponse.synonyms, false);
                     } else {
                         Toast.makeText(GameActivity.this, "No synonyms found", Toast.LENGTH_SHORT).show();
+                        refundTip(secretWord, false);
                     }
                 } else {
                     // Handle error response with proper resource management
@@ -425,64 +492,112 @@ public class GameActivity extends AppCompatActivity {
                     }
                     Log.e("API", "API error: " + response.code() + " - " + errorBody);
                     Toast.makeText(GameActivity.this, "API error: " + response.code(), Toast.LENGTH_SHORT).show();
+                    refundTip(secretWord, true);
                 }
             }
 
             @Override
             public void onFailure(@NonNull Call<ThesaurusResponse> call,
                                   @NonNull Throwable t) {
+                if (t instanceof ApiGuard.RejectedException) {
+                    // Quota protection kicked in; the round itself carries on
+                    Log.w("API", t.getMessage());
+                    Toast.makeText(GameActivity.this, "Tips are busy, try again shortly",
+                            Toast.LENGTH_SHORT).show();
+                    refundTip(secretWord, true);
+                    return;
+                }
                 Log.e("API", "Network error: " + t.getMessage(), t);
                 Toast.makeText(GameActivity.this,
                         "Network error: " + t.getLocalizedMessage(),
                         Toast.LENGTH_SHORT).show();
+                refundTip(secretWord, true);
             }
         });
     }
 
-    // Display a random synonym as hint
-    private void showSingleSynonym(List<String> synonyms) {
+    // The tip was paid for but nothing was shown: give the points back. After a failure that may clear up
+    // the tip button comes back, a bounded number of times per word; a word without usable synonyms keeps it off.
+    private void refundTip(String secretWord, boolean retryable) {
         runOnUiThread(() -> {
-            List<String> validSynonyms = filterValidSynonyms(synonyms);
+            if (!secretWord.equals(engine.getSecretWord())) return; // The round has moved on
+            engine.refundTip();
+            tvScore.setText(getString(R.string.score, engine.getScore()));
+            if (retryable && synonymRetryCount < MAX_SYNONYM_RETRIES) {
+                synonymRetryCount++;
+                Log.d("API", "Tip refunded, retry " + synonymRetryCount + "/" + MAX_SYNONYM_RETRIES);
+                findViewById(R.id.btnTip).setEnabled(true);
+            }
+        });
+    }
+
+    // Display one of the best-ranked synonyms as hint (filters and ranks the list in place)
+    private void showSingleSynonym(List<String> synonyms, boolean fromDictionary) {
+        String secretWord = engine.getSecretWord();
+        runOnUiThread(() -> {
+            int valid = SynonymFilter.compactValid(synonyms, secretWord);
+            int usable = SynonymFilter.rankForHints(synonyms, valid, secretWord);
+            int pool = Math.min(usable, HINT_POOL_SIZE); // A synonym containing the word is no hint
 
-            if (!validSynonyms.isEmpty()) {
-                String randomSynonym = validSynonyms.get(new Random().nextInt(validSynonyms.size()));
+            if (pool > 0) {
+                String randomSynonym = synonyms.get(new Random().nextInt(pool));
                 tvSynonymHint.setText(getString(R.string.synonym_hint, randomSynonym));
                 tvSynonymHint.setVisibility(View.VISIBLE);
-            } else {
-                Toast.makeText(this, "No valid synonyms for this word", Toast.LENGTH_SHORT).show();
-                if (synonymRetryCount < MAX_SYNONYM_RETRIES) {
-                    fetchNewWord();
+                // The bundled thesaurus only narrows the count when it also supplied the tip; an API
+                // synonym need not be linked to the word there, and would rule the answer out
+                if (fromDictionary && candidates != null) {
+                    candidates.restrictTo(offlineDictionary.wordsRelatedTo(randomSynonym));
+                    showCandidateCount();
                 }
+            } else {
+                // Keep the round going on this word rather than swap it out under the player
+                Toast.makeText(this, "No valid synonyms for this word; tip refunded", Toast.LENGTH_SHORT).show();
+                RejectedWordFilter.getInstance(this).add(secretWord);
+                refundTip(secretWord, false);
             }
         });
     }
 
-    // Start game timer
+    // Start game timer from zero
     private void startTimer() {
-        if (timer != null) timer.cancel();
+        gameClock.restart();
+        cancelTimerFrame();
+        renderTimer();
+        scheduleTimerFrame();
+    }
 
-        timer = new CountDownTimer(Long.MAX_VALUE, 1000) {
-            public void onTick(long millisUntilFinished) {
-                timeElapsed += 1000;
-                runOnUiThread(() ->
-                        tvTimer.setText(getString(R.string.time, timeElapsed / 1000)));
-            }
-            public void onFinish() {}
-        }.start();
+    // Wake up on the frame after the displayed second changes
+    private void scheduleTimerFrame() {
+        if (!isVisible || isTimerFrameScheduled || !gameClock.isRunning()) return;
+        isTimerFrameScheduled = true;
+        Choreographer.getInstance().postFrameCallbackDelayed(timerFrame, gameClock.millisUntilNextSecond());
+    }
+
+    private void cancelTimerFrame() {
+        Choreographer.getInstance().removeFrameCallback(timerFrame);
+        isTimerFrameScheduled = false;
+    }
+
+    private void renderTimer() {
+        long seconds = gameClock.elapsedSeconds();
+        if (seconds == shownSeconds) return;
+        shownSeconds = seconds;
+        tvTimer.setText(getString(R.string.time, seconds));
     }
 
     // Update score and attempts display
     private void updateUI() {
         runOnUiThread(() -> {
-            tvScore.setText(getString(R.string.score, score));
-            tvAttempts.setText(getString(R.string.attempts, attemptsLeft));
+            tvScore.setText(getString(R.string.score, engine.getScore()));
+            tvAttempts.setText(getString(R.string.attempts, engine.getAttemptsLeft()));
             etGuess.setText("");
         });
     }
 
     // Check for game over conditions
     private void checkGameStatus() {
-        if (score <= 0 || attemptsLeft <= 0) {
+        if (engine.getPhase() == GameEngine.Phase.LOST) {
+            recordRoundResult(false);
             showGameOverDialog();
         }
     }
@@ -491,32 +606,34 @@ public class GameActivity extends AppCompatActivity {
     private void showGameOverDialog() {
         new AlertDialog.Builder(this)
                 .setTitle(R.string.game_over)
-                .setMessage(getString(R.string.final_score, score))
+                .setMessage(getString(R.string.final_score, engine.getScore()))
                 .setPositiveButton(R.string.new_game, (d, w) -> resetRound())
                 .setCancelable(false)
                 .show();
     }
 
+    // Feed the outcome into the game history, the word's difficulty and the ramp
+    private void recordRoundResult(boolean won) {
+        roundsWon = won ? roundsWon + 1 : 0;
+        if (wordPool != null) wordPool.recordResult(engine.getSecretWord(), won);
+        GameHistory.getInstance(this).append(new GameHistory.Record(System.currentTimeMillis(),
+                engine.getSecretWord(), engine.getScore(), (int) gameClock.elapsedSeconds(),
+                engine.getWordAttempts(), Integer.bitCount(engine.getProfile().getCheckedMask()),
+                engine.isLengthRevealed(), engine.isTipUsed(), won));
+    }
+
     // Reset game for a new round
     private void resetRound() {
-        if (isOffline()) {
-            showNetworkErrorAndFinish();
-            return;
-        }
-        if (timer != null) timer.cancel();
-        score = 100;
-        attemptsLeft = 10;
-        totalAttempts = 0;
-        timeElapsed = 0;
+        engine.newRound();
         findViewById(R.id.btnTip).setVisibility(View.GONE);
         fetchNewWord();
         startTimer();
         updateUI();
         runOnUiThread(() -> findViewById(R.id.btnTip).setVisibility(View.GONE));
-        Log.d("GameState", "Reset round - totalAttempts: " + totalAttempts);
+        Log.d("GameState", "Reset round - totalAttempts: " + engine.getWordAttempts());
     }
 
-    // Submit score to online leaderboard
+    // Queue score for the online leaderboard (posted in the background, retried until it lands)
     private void postToLeaderboard() {
         String userName = prefs.getUserName();
         if (userName == null || userName.isEmpty()) {
@@ -524,32 +641,35 @@ public class GameActivity extends AppCompatActivity {
             return;
         }
 
-        String url = "http://dreamlo.com/lb/"+BuildConfig.Private_Code+"/add/" +
-                userName + "/" + score + "/" + (timeElapsed / 1000);
-
-        new OkHttpClient().newCall(new Request.Builder().url(url).build())
-                .enqueue(new okhttp3.Callback() {
-                    @Override
-                    public void onFailure(@NonNull okhttp3.Call call, @NonNull IOException e) {
-                        runOnUiThread(() ->
-                                Toast.makeText(GameActivity.this,
-                                        R.string.leaderboard_fail,
-                                        Toast.LENGTH_SHORT).show());
-                    }
+        scoreOutbox.submit(userName, engine.getScore(), gameClock.elapsedSeconds());
+        rankIndex.submit(userName, engine.getScore(), (int) gameClock.elapsedSeconds());
+        Log.d("Leaderboard", "Score queued (" + scoreOutbox.describeStats() + ")");
+    }
 
-                    @Override
-                    public void onResponse(@NonNull okhttp3.Call call,
-                                           @NonNull okhttp3.Response response) {
-                        Log.d("Leaderboard", "Score posted successfully");
-                    }
-                });
+    // The clock only runs while the game is on screen
+    @Override
+    protected void onResume() {
+        super.onResume();
+        isVisible = true;
+        gameClock.resume();
+        renderTimer();
+        scheduleTimerFrame();
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        isVisible = false;
+        gameClock.pause();
+        cancelTimerFrame();
     }
 
     // Clean up resources
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        if (timer != null) timer.cancel();
+        cancelTimerFrame();
+        if (wordSupply != null) wordSupply.cancel(wordCallback);
     }
 
     // Show insufficient points warning
@@ -557,13 +677,24 @@ public class GameActivity extends AppCompatActivity {
         Toast.makeText(this, R.string.not_enough_points, Toast.LENGTH_SHORT).show();
     }
 
-    // Display success dialog when word is guessed
-    private void showSuccessDialog() {
+    // Rank the score takes on the last known board; null until a cached or fetched board has arrived
+    private String describeRank() {
+        if (!rankIndex.hasBoard()) return null;
+        int known = rankIndex.size();
+        int rank = rankIndex.rankOf(engine.getScore(), (int) gameClock.elapsedSeconds());
+        return rank > known && !rankIndex.isComplete()
+                ? getString(R.string.success_rank_outside, known)
+                : getString(R.string.success_rank, rank, Math.max(known, rank));
+    }
+
+    // Display success dialog when word is guessed, with the rank line when there is one
+    private void showSuccessDialog(String rankLine) {
+        String message = getString(R.string.success_message, engine.getSecretWord(),
+                (int) gameClock.elapsedSeconds());
+        if (rankLine != null) message += "\n" + rankLine;
         new AlertDialog.Builder(this)
                 .setTitle(R.string.correct_guess)
-                .setMessage(getString(R.string.success_message,
-                        secretWord,
-                        timeElapsed / 1000))
+                .setMessage(message)
                 .setPositiveButton(R.string.continue_game, null)
                 .show();
     }
@@ -0,0 +1,52 @@
+package com.example.wordguessinggame;
+
+import java.util.function.LongSupplier;
+
+// Monotonic game clock: elapsed time is derived from timestamps on demand, never accumulated by ticks
+public final class GameClock {
+    private static final long NOT_RUNNING = -1;
+
+    private final LongSupplier nowMillis; // Monotonic source (SystemClock.elapsedRealtime on device)
+    private long accumulatedMillis;
+    private long runningSince = NOT_RUNNING;
+
+    public GameClock(LongSupplier nowMillis) {
+        this.nowMillis = nowMillis;
+    }
+
+    // Zero the clock and start it
+    public void restart() {
+        accumulatedMillis = 0;
+        runningSince = nowMillis.getAsLong();
+    }
+
+    // Stop counting (e.g. while the screen is in the background)
+    public void pause() {
+        if (runningSince == NOT_RUNNING) return;
+        accumulatedMillis += nowMillis.getAsLong() - runningSince;
+        runningSince = NOT_RUNNING;
+    }
+
+    public void resume() {
+        if (runningSince != NOT_RUNNING) return;
+        runningSince = nowMillis.getAsLong();
+    }
+
+    public boolean isRunning() {
+        return runningSince != NOT_RUNNING;
+    }
+
+    public long elapsedMillis() {
+        if (runningSince == NOT_RUNNING) return accumulatedMillis;
+        return accumulatedMillis + nowMillis.getAsLong() - runningSince;
+    }
+
+    public long elapsedSeconds() {
+        return elapsedMillis() / 1000;
+    }
+
+    // Delay until the displayed second changes
+    public long millisUntilNextSecond() {
+        return 1000 - elapsedMillis() % 1000;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.wordguessinggame;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+// Scoring and round rules as a plain state machine; GameActivity drives it and renders the result
+public final class GameEngine {
+    // Game config constants
+    public static final int START_SCORE = 100;
+    public static final int START_ATTEMPTS = 10;
+    public static final int CORRECT_BONUS = 50;
+    public static final int WRONG_GUESS_PENALTY = 10;
+    public static final int LETTER_COST = 5;
+    public static final int LENGTH_COST = 5;
+    public static final int TIP_COST = 10;
+    public static final int TIP_UNLOCK_ATTEMPTS = 5; // Guesses on one word before a tip is offered
+
+    // WAITING_FOR_WORD -> PLAYING -> WON | LOST -> (newRound) WAITING_FOR_WORD
+    public enum Phase { WAITING_FOR_WORD, PLAYING, WON, LOST }
+
+    public enum GuessResult { IGNORED, CORRECT, INCORRECT, NOT_A_WORD }
+
+    public enum HintResult { GRANTED, NOT_ENOUGH_POINTS, ALREADY_USED, NOT_AVAILABLE }
+
+    private Phase phase = Phase.WAITING_FOR_WORD;
+    private int score = START_SCORE;
+    private int attemptsLeft = START_ATTEMPTS;
+    private int wordAttempts;
+    private String secretWord = "";
+    private WordProfile profile = new WordProfile("");
+    private GuessFeedback feedback = new GuessFeedback(profile);
+    private boolean lengthRevealed;
+    private boolean tipUsed;
+    private Predicate<CharSequence> vocabulary; // Null accepts any guess
+    private String bouncedGuess; // Last guess sent back as NOT_A_WORD on this word
+
+    // Serve a new secret word; keeps score and attempts, resets per-word hints
+    public void startWord(String word) {
+        secretWord = word;
+        profile = new WordProfile(word);
+        feedback = new GuessFeedback(profile);
+        lengthRevealed = false;
+        tipUsed = false;
+        wordAttempts = 0;
+        bouncedGuess = null;
+        phase = Phase.PLAYING;
+    }
+
+    // Guesses outside the vocabulary are sent back once without costing an attempt; submitting the same
+    // guess again scores it, so a word missing from the vocabulary never blocks the player
+    public void setVocabulary(Predicate<CharSequence> vocabulary) {
+        this.vocabulary = vocabulary;
+    }
+
+    // Score a guess; a correct one ends the round as WON, running out of score or attempts as LOST
+    public GuessResult submitGuess(String rawGuess) {
+        if (phase != Phase.PLAYING) return GuessResult.IGNORED;
+        String guess = rawGuess.trim().toLowerCase(Locale.ROOT);
+        if (guess.isEmpty()) return GuessResult.IGNORED;
+        if (vocabulary != null && !guess.equals(secretWord) && !guess.equals(bouncedGuess)
+                && !vocabulary.test(guess)) {
+            bouncedGuess = guess;
+            return GuessResult.NOT_A_WORD;
+        }
+
+        attemptsLeft--;
+        wordAttempts++;
+        if (guess.equals(secretWord)) {
+            score += CORRECT_BONUS;
+            phase = Phase.WON;
+            return GuessResult.CORRECT;
+        }
+        score = Math.max(0, score - WRONG_GUESS_PENALTY);
+        if (score <= 0 || attemptsLeft <= 0) {
+            phase = Phase.LOST;
+        }
+        return GuessResult.INCORRECT;
+    }
+
+    // Letter-check hint: the count is then available from getProfile().checkedCount(letter).
+    // Only a-z can be checked; anything else is turned away before it costs points
+    public HintResult checkLetter(char letter) {
+        if (phase != Phase.PLAYING || WordProfile.letterIndex(letter) < 0) return HintResult.NOT_AVAILABLE;
+        if (score < LETTER_COST) return HintResult.NOT_ENOUGH_POINTS;
+        score = Math.max(0, score - LETTER_COST);
+        profile.check(Character.toLowerCase(letter));
+        return HintResult.GRANTED;
+    }
+
+    public HintResult revealLength() {
+        if (phase != Phase.PLAYING) return HintResult.NOT_AVAILABLE;
+        if (score < LENGTH_COST) return HintResult.NOT_ENOUGH_POINTS;
+        if (lengthRevealed) return HintResult.ALREADY_USED;
+        score -= LENGTH_COST;
+        lengthRevealed = true;
+        return HintResult.GRANTED;
+    }
+
+    // Synonym tip; the caller fetches and shows the synonym once granted
+    public HintResult requestTip() {
+        if (phase != Phase.PLAYING) return HintResult.NOT_AVAILABLE;
+        if (score < TIP_COST) return HintResult.NOT_ENOUGH_POINTS;
+        if (tipUsed) return HintResult.ALREADY_USED;
+        score -= TIP_COST;
+        tipUsed = true;
+        return HintResult.GRANTED;
+    }
+
+    // Give back a granted tip that could not be shown; the tip can then be requested again
+    public void refundTip() {
+        if (phase != Phase.PLAYING || !tipUsed) return;
+        score += TIP_COST;
+        tipUsed = false;
+    }
+
+    // Back to a full score and attempt budget, waiting for the next word
+    public void newRound() {
+        score = START_SCORE;
+        attemptsLeft = START_ATTEMPTS;
+        wordAttempts = 0;
+        lengthRevealed = false;
+        tipUsed = false;
+        phase = Phase.WAITING_FOR_WORD;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getAttemptsLeft() {
+        return attemptsLeft;
+    }
+
+    // Guesses made on the current word
+    public int getWordAttempts() {
+        return wordAttempts;
+    }
+
+    public String getSecretWord() {
+        return secretWord;
+    }
+
+    public WordProfile getProfile() {
+        return profile;
+    }
+
+    // Near-miss feedback against the current word; measure() it with the guess being typed
+    public GuessFeedback getFeedback() {
+        return feedback;
+    }
+
+    public boolean isLengthRevealed() {
+        return lengthRevealed;
+    }
+
+    public boolean isTipUsed() {
+        return tipUsed;
+    }
+
+    public boolean isTipUnlocked() {
+        return wordAttempts >= TIP_UNLOCK_ATTEMPTS;
+    }
+}
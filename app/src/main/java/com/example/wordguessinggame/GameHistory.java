@@ -0,0 +1,301 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import android.util.Log;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only log of finished rounds plus a GameStats snapshot that records how much of the log it covers.
+// Opening replays only the records written after the snapshot, so stats load in constant time however
+// long the history grows; a torn or corrupt tail is truncated like the score outbox does. Opening and appends
+// run in order on the history thread, so callers on the main thread never touch the files.
+public class GameHistory {
+    private static final String TAG = "GameHistory";
+    private static final String LOG_NAME = "game_history.log";
+    private static final String SNAPSHOT_NAME = "game_stats.bin";
+    private static final short RECORD_MAGIC = 0x4748; // "GH"
+    private static final int SNAPSHOT_MAGIC = 0x57475353; // "WGSS"
+
+    // Record flags
+    private static final int FLAG_WON = 1;
+    private static final int FLAG_LENGTH = 2;
+    private static final int FLAG_TIP = 4;
+
+    private static GameHistory instance;
+
+    private final File log;
+    private final File snapshot;
+    private GameStats stats; // Guarded by this; null until opened
+    private long logLength;  // Bytes of valid records
+    private final AtomicBoolean snapshotPending = new AtomicBoolean();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "game-history");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // One finished round
+    public static class Record {
+        public final long playedAtMillis;
+        public final String word;
+        public final int score;
+        public final int seconds;
+        public final int attempts;
+        public final int lettersChecked;
+        public final boolean lengthRevealed;
+        public final boolean tipUsed;
+        public final boolean won;
+
+        public Record(long playedAtMillis, String word, int score, int seconds, int attempts,
+                      int lettersChecked, boolean lengthRevealed, boolean tipUsed, boolean won) {
+            this.playedAtMillis = playedAtMillis;
+            this.word = word != null ? word : "";
+            this.score = score;
+            this.seconds = seconds;
+            this.attempts = attempts;
+            this.lettersChecked = lettersChecked;
+            this.lengthRevealed = lengthRevealed;
+            this.tipUsed = tipUsed;
+            this.won = won;
+        }
+
+        public int hintsUsed() {
+            return lettersChecked + (lengthRevealed ? 1 : 0) + (tipUsed ? 1 : 0);
+        }
+    }
+
+    public GameHistory(File log, File snapshot) {
+        this.log = log;
+        this.snapshot = snapshot;
+        writer.execute(this::open);
+    }
+
+    public static synchronized GameHistory getInstance(Context context) {
+        if (instance == null) {
+            File dir = context.getApplicationContext().getFilesDir();
+            instance = new GameHistory(new File(dir, LOG_NAME), new File(dir, SNAPSHOT_NAME));
+        }
+        return instance;
+    }
+
+    // Aggregates including every round appended so far; blocks until the history thread catches up
+    public GameStats getStats() {
+        flush();
+        synchronized (this) {
+            return stats.copy();
+        }
+    }
+
+    // Same aggregates handed to the callback on the history thread, for callers that must not block
+    public void loadStats(Consumer<GameStats> callback) {
+        writer.execute(() -> {
+            GameStats copy;
+            synchronized (this) {
+                copy = stats.copy();
+            }
+            callback.accept(copy);
+        });
+    }
+
+    public long getLogBytes() {
+        flush();
+        synchronized (this) {
+            return logLength;
+        }
+    }
+
+    // Queue one round: the history thread logs it, updates the aggregates and rewrites the snapshot
+    public void append(Record record) {
+        writer.execute(() -> write(record));
+    }
+
+    private void write(Record record) {
+        synchronized (this) {
+            byte[] bytes;
+            try {
+                bytes = encode(record);
+            } catch (IOException e) {
+                throw new IllegalStateException(e); // In-memory streams don't throw
+            }
+            try (FileOutputStream out = new FileOutputStream(log, true)) {
+                out.write(bytes);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to append game record", e);
+                truncate(logLength); // Don't leave a partial record for later appends to hide behind
+                return;
+            }
+            logLength += bytes.length;
+            stats.add(record);
+        }
+        if (snapshotPending.compareAndSet(false, true)) {
+            writer.execute(this::writeSnapshot);
+        }
+    }
+
+    // Resume from the snapshot and replay only the newer records
+    private synchronized void open() {
+        long length = log.exists() ? log.length() : 0;
+        long covered = readSnapshot(length);
+        if (stats == null) {
+            stats = new GameStats();
+            covered = 0;
+        }
+        logLength = covered;
+        if (covered < length) replayFrom(covered, length);
+    }
+
+    // Loads stats from the snapshot and returns the log offset they cover (stats stays null if unusable)
+    private long readSnapshot(long logLength) {
+        if (!snapshot.exists()) return 0;
+        try {
+            byte[] data = Files.readAllBytes(snapshot.toPath());
+            if (data.length < 16) return 0;
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, data.length - 4);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            in.skipBytes(data.length - 4);
+            if (in.readInt() != (int) crc.getValue()) return 0;
+
+            in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+            if (in.readInt() != SNAPSHOT_MAGIC) return 0;
+            long covered = in.readLong();
+            if (covered > logLength) return 0; // Log was truncated or replaced: rebuild
+            stats = GameStats.readFrom(in);
+            return covered;
+        } catch (IOException e) {
+            Log.w(TAG, "Ignoring unreadable stats snapshot", e);
+            stats = null;
+            return 0;
+        }
+    }
+
+    private void replayFrom(long offset, long length) {
+        byte[] data = new byte[(int) (length - offset)];
+        try (RandomAccessFile raf = new RandomAccessFile(log, "r")) {
+            raf.seek(offset);
+            raf.readFully(data);
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to read game history", e);
+            return;
+        }
+
+        ByteArrayInputStream bytes = new ByteArrayInputStream(data);
+        DataInputStream in = new DataInputStream(bytes);
+        int position = 0;
+        int replayed = 0;
+        while (position < data.length) {
+            Record record = decode(in, data, position);
+            if (record == null) {
+                Log.w(TAG, "Truncating game history at " + (offset + position));
+                truncate(offset + position);
+                break;
+            }
+            stats.add(record);
+            replayed++;
+            position = data.length - bytes.available();
+        }
+        logLength = offset + position;
+        Log.d(TAG, "Replayed " + replayed + " records after the snapshot");
+        if (replayed > 0 && snapshotPending.compareAndSet(false, true)) {
+            writer.execute(this::writeSnapshot);
+        }
+    }
+
+    private void truncate(long length) {
+        try (RandomAccessFile raf = new RandomAccessFile(log, "rw")) {
+            raf.setLength(length);
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to truncate game history", e);
+        }
+    }
+
+    // Snapshot: magic, covered log length, stats, CRC32 of everything before it
+    private void writeSnapshot() {
+        snapshotPending.set(false);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            synchronized (this) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(logLength);
+                stats.writeTo(out);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // In-memory streams don't throw
+        }
+
+        File tmp = new File(snapshot.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            out.write(bytes.toByteArray());
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to write stats snapshot", e);
+            return;
+        }
+        if (!tmp.renameTo(snapshot)) {
+            Log.e(TAG, "Failed to replace stats snapshot");
+        }
+    }
+
+    // Block until queued opens, appends and snapshot writes are done (never call it on the history thread)
+    void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (Exception e) {
+            Log.w(TAG, "Flush interrupted", e);
+        }
+    }
+
+    // Record: magic, time, word, score, seconds, attempts, letters checked, flags, CRC32 of everything before it
+    private static byte[] encode(Record record) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(RECORD_MAGIC);
+        out.writeLong(record.playedAtMillis);
+        out.writeUTF(record.word);
+        out.writeInt(record.score);
+        out.writeInt(record.seconds);
+        out.writeShort(Math.min(record.attempts, Short.MAX_VALUE));
+        out.writeByte(Math.min(record.lettersChecked, 26));
+        out.writeByte((record.won ? FLAG_WON : 0) | (record.lengthRevealed ? FLAG_LENGTH : 0)
+                | (record.tipUsed ? FLAG_TIP : 0));
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    private static Record decode(DataInputStream in, byte[] data, int offset) {
+        try {
+            if (in.readShort() != RECORD_MAGIC) return null;
+            long playedAt = in.readLong();
+            String word = in.readUTF();
+            int score = in.readInt();
+            int seconds = in.readInt();
+            int attempts = in.readShort();
+            int lettersChecked = in.readUnsignedByte();
+            int flags = in.readUnsignedByte();
+            int end = data.length - in.available();
+            CRC32 crc = new CRC32();
+            crc.update(data, offset, end - offset);
+            if (in.readInt() != (int) crc.getValue()) return null;
+            return new Record(playedAt, word, score, seconds, attempts, lettersChecked,
+                    (flags & FLAG_LENGTH) != 0, (flags & FLAG_TIP) != 0, (flags & FLAG_WON) != 0);
+        } catch (IOException e) {
+            return null; // Torn record
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.wordguessinggame;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+// Running aggregates over the game history, updated per game in O(1) and read in O(1): totals, bests,
+// streaks, and fixed-size histograms that answer percentile queries without touching the log
+public final class GameStats {
+    private static final int VERSION = 1;
+    static final int SCORE_BUCKETS = 256;  // One point per bucket; the last one collects higher scores
+    static final int SECONDS_BUCKETS = 64; // Powers of two: [0,1), [1,2), [2,4) ... then overflow
+
+    private long games;
+    private long wins;
+    private long totalScore;
+    private long totalSeconds;
+    private long totalAttempts;
+    private long totalHints;
+    private int bestScore = -1;
+    private String bestScoreWord = "";
+    private long fastestWinSeconds = -1;
+    private int currentStreak;
+    private int bestStreak;
+    private final long[] scoreHistogram = new long[SCORE_BUCKETS];
+    private final long[] secondsHistogram = new long[SECONDS_BUCKETS];
+
+    public void add(GameHistory.Record record) {
+        games++;
+        totalScore += record.score;
+        totalSeconds += record.seconds;
+        totalAttempts += record.attempts;
+        totalHints += record.hintsUsed();
+        if (record.won) {
+            wins++;
+            currentStreak++;
+            bestStreak = Math.max(bestStreak, currentStreak);
+            if (fastestWinSeconds < 0 || record.seconds < fastestWinSeconds) fastestWinSeconds = record.seconds;
+        } else {
+            currentStreak = 0;
+        }
+        if (record.score > bestScore) {
+            bestScore = record.score;
+            bestScoreWord = record.word;
+        }
+        scoreHistogram[Math.max(0, Math.min(record.score, SCORE_BUCKETS - 1))]++;
+        secondsHistogram[secondsBucket(record.seconds)]++;
+    }
+
+    static int secondsBucket(long seconds) {
+        return Math.min(64 - Long.numberOfLeadingZeros(Math.max(0, seconds)), SECONDS_BUCKETS - 1);
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public double winRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public double averageScore() {
+        return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    public double averageSeconds() {
+        return games == 0 ? 0 : (double) totalSeconds / games;
+    }
+
+    public double averageAttempts() {
+        return games == 0 ? 0 : (double) totalAttempts / games;
+    }
+
+    public double averageHints() {
+        return games == 0 ? 0 : (double) totalHints / games;
+    }
+
+    // -1 before the first game
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    public String getBestScoreWord() {
+        return bestScoreWord;
+    }
+
+    // -1 before the first win
+    public long getFastestWinSeconds() {
+        return fastestWinSeconds;
+    }
+
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public int getBestStreak() {
+        return bestStreak;
+    }
+
+    // Score at the given quantile (0..1); exact below SCORE_BUCKETS - 1
+    public int scorePercentile(double quantile) {
+        return (int) percentileBucket(scoreHistogram, quantile);
+    }
+
+    // Upper bound in seconds of the bucket holding the given quantile
+    public long secondsPercentile(double quantile) {
+        long bucket = percentileBucket(secondsHistogram, quantile);
+        return bucket == 0 ? 0 : 1L << bucket;
+    }
+
+    private long percentileBucket(long[] histogram, double quantile) {
+        if (games == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * games));
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) return bucket;
+        }
+        return histogram.length - 1;
+    }
+
+    public String describe() {
+        if (games == 0) return "No games played yet";
+        return String.format(Locale.US,
+                "Games: %d  Won: %d (%.0f%%)%n"
+                        + "Best score: %d (%s)%n"
+                        + "Fastest win: %s%n"
+                        + "Streak: %d  Best streak: %d%n"
+                        + "Average score: %.1f  Median: %d  Top 10%%: %d+%n"
+                        + "Average time: %.0fs  90%% within: %ds%n"
+                        + "Average guesses: %.1f  Hints: %.1f",
+                games, wins, winRate() * 100, bestScore, bestScoreWord,
+                fastestWinSeconds < 0 ? "-" : fastestWinSeconds + "s",
+                currentStreak, bestStreak, averageScore(), scorePercentile(0.5), scorePercentile(0.9),
+                averageSeconds(), secondsPercentile(0.9), averageAttempts(), averageHints());
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(VERSION);
+        out.writeLong(games);
+        out.writeLong(wins);
+        out.writeLong(totalScore);
+        out.writeLong(totalSeconds);
+        out.writeLong(totalAttempts);
+        out.writeLong(totalHints);
+        out.writeInt(bestScore);
+        out.writeUTF(bestScoreWord);
+        out.writeLong(fastestWinSeconds);
+        out.writeInt(currentStreak);
+        out.writeInt(bestStreak);
+        for (long count : scoreHistogram) out.writeLong(count);
+        for (long count : secondsHistogram) out.writeLong(count);
+    }
+
+    // Null when the snapshot is from another version
+    static GameStats readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != VERSION) return null;
+        GameStats stats = new GameStats();
+        stats.games = in.readLong();
+        stats.wins = in.readLong();
+        stats.totalScore = in.readLong();
+        stats.totalSeconds = in.readLong();
+        stats.totalAttempts = in.readLong();
+        stats.totalHints = in.readLong();
+        stats.bestScore = in.readInt();
+        stats.bestScoreWord = in.readUTF();
+        stats.fastestWinSeconds = in.readLong();
+        stats.currentStreak = in.readInt();
+        stats.bestStreak = in.readInt();
+        for (int i = 0; i < SCORE_BUCKETS; i++) stats.scoreHistogram[i] = in.readLong();
+        for (int i = 0; i < SECONDS_BUCKETS; i++) stats.secondsHistogram[i] = in.readLong();
+        return stats;
+    }
+
+    GameStats copy() {
+        GameStats copy = new GameStats();
+        copy.games = games;
+        copy.wins = wins;
+        copy.totalScore = totalScore;
+        copy.totalSeconds = totalSeconds;
+        copy.totalAttempts = totalAttempts;
+        copy.totalHints = totalHints;
+        copy.bestScore = bestScore;
+        copy.bestScoreWord = bestScoreWord;
+        copy.fastestWinSeconds = fastestWinSeconds;
+        copy.currentStreak = currentStreak;
+        copy.bestStreak = bestStreak;
+        System.arraycopy(scoreHistogram, 0, copy.scoreHistogram, 0, SCORE_BUCKETS);
+        System.arraycopy(secondsHistogram, 0, copy.secondsHistogram, 0, SECONDS_BUCKETS);
+        return copy;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.wordguessinggame;
+
+// Near-miss feedback for a guess against the secret word: Levenshtein distance with Myers' bit-parallel
+// algorithm (one 64-bit word per column, so O(guess length) for words up to 64 letters) and the number of
+// letters shared by the two letter histograms. Everything is preallocated per secret word, so measuring
+// a guess on every submission allocates nothing. Not thread-safe; meant for the UI thread.
+public final class GuessFeedback {
+    private static final int ALPHABET = 26;
+    private static final int MAX_BIT_PARALLEL = 64;
+
+    private final String word;
+    private final int length;
+    private final long[] peq = new long[ALPHABET]; // Bit i set where word[i] is that letter
+    private final int[] histogram = new int[ALPHABET];
+    private final int[] guessHistogram = new int[ALPHABET]; // Scratch, reused per measure
+    private final int[] row; // DP row for words longer than 64 letters, else null
+
+    private int distance;
+    private int sharedLetters;
+    private int guessLength;
+
+    public GuessFeedback(WordProfile profile) {
+        this.word = profile.getWord();
+        this.length = word.length();
+        for (int i = 0; i < length; i++) {
+            int index = WordProfile.letterIndex(word.charAt(i));
+            if (index < 0) continue;
+            histogram[index]++;
+            if (i < MAX_BIT_PARALLEL) peq[index] |= 1L << i;
+        }
+        this.row = length > MAX_BIT_PARALLEL ? new int[length + 1] : null;
+    }
+
+    // Measure a raw guess (e.g. the guess field's Editable): case-insensitive, surrounding spaces ignored
+    public void measure(CharSequence guess) {
+        int start = 0;
+        int end = guess.length();
+        while (start < end && Character.isWhitespace(guess.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(guess.charAt(end - 1))) end--;
+        guessLength = end - start;
+        distance = row == null ? myers(guess, start, end) : dynamic(guess, start, end);
+        sharedLetters = shared(guess, start, end);
+    }
+
+    // Levenshtein distance from the last measured guess to the word
+    public int getDistance() {
+        return distance;
+    }
+
+    // Letters the guess and the word have in common, counting repeats up to the smaller count
+    public int getSharedLetters() {
+        return sharedLetters;
+    }
+
+    public int getGuessLength() {
+        return guessLength;
+    }
+
+    // Myers, as formulated by Hyyro: the DP column's vertical deltas as bit vectors; score tracks the last row
+    private int myers(CharSequence guess, int start, int end) {
+        if (length == 0) return end - start;
+        long last = 1L << (length - 1);
+        long pv = length == MAX_BIT_PARALLEL ? -1L : (1L << length) - 1;
+        long mv = 0;
+        int score = length;
+        for (int j = start; j < end; j++) {
+            int index = WordProfile.letterIndex(guess.charAt(j));
+            long eq = index >= 0 ? peq[index] : 0;
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0) score++;
+            else if ((mh & last) != 0) score--;
+            ph = (ph << 1) | 1; // Row 0 grows by one per guess letter
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+        return score;
+    }
+
+    // Plain single-row DP for the rare word that doesn't fit in 64 bits
+    private int dynamic(CharSequence guess, int start, int end) {
+        for (int i = 0; i <= length; i++) row[i] = i;
+        for (int j = start; j < end; j++) {
+            int index = WordProfile.letterIndex(guess.charAt(j));
+            int diagonal = row[0];
+            row[0] = j - start + 1;
+            for (int i = 1; i <= length; i++) {
+                int above = row[i];
+                int cost = index >= 0 && index == WordProfile.letterIndex(word.charAt(i - 1)) ? 0 : 1;
+                row[i] = Math.min(Math.min(row[i - 1], above) + 1, diagonal + cost);
+                diagonal = above;
+            }
+        }
+        return row[length];
+    }
+
+    private int shared(CharSequence guess, int start, int end) {
+        for (int i = 0; i < ALPHABET; i++) guessHistogram[i] = 0;
+        int shared = 0;
+        for (int j = start; j < end; j++) {
+            int index = WordProfile.letterIndex(guess.charAt(j));
+            if (index >= 0 && guessHistogram[index]++ < histogram[index]) shared++;
+        }
+        return shared;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.wordguessinggame;
 
 import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
 import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
@@ -9,97 +11,122 @@ import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
-import retrofit2.Retrofit;
-import retrofit2.converter.gson.GsonConverterFactory;
-import retrofit2.http.GET;
 
 // Displays player rankings from Dreamlo leaderboard API
 public class LeaderboardActivity extends AppCompatActivity {
 
+    private static final String TAG = "LeaderboardActivity";
+
+    // Ranged pages are loaded while scrolling, starting with the first one
+    private static final int PAGE_SIZE = LeaderboardPager.DEFAULT_PAGE_SIZE;
+    private static final int PREFETCH_DISTANCE = LeaderboardPager.DEFAULT_PREFETCH_DISTANCE;
+
     private LeaderboardAdapter adapter;
+    private RecyclerView recyclerView;
+    private LeaderboardCache leaderboardCache;
+    private LeaderboardPager pager;
+    private LeaderboardRankIndex rankIndex;
+    private long openedAtMillis;
+    private boolean firstRowReported;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        openedAtMillis = SystemClock.elapsedRealtime();
         setContentView(R.layout.activity_leaderboard);
 
-        RecyclerView recyclerView = findViewById(R.id.rvLeaderboard);
-        recyclerView.setLayoutManager(new LinearLayoutManager(this));
+        recyclerView = findViewById(R.id.rvLeaderboard);
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        recyclerView.setLayoutManager(layoutManager);
 
-        // Initialize with empty list - populated after API call
+        // Initialize with empty list - populated from the cache, then the API call
         adapter = new LeaderboardAdapter(new ArrayList<>());
         recyclerView.setAdapter(adapter);
 
-        fetchLeaderboardData();
+        // Stale-while-revalidate: show the last good board as soon as it is read, refresh unless it is still fresh
+        leaderboardCache = LeaderboardCache.getInstance(this);
+        rankIndex = LeaderboardRankIndex.getInstance(this);
+        setupPaging(layoutManager);
+        leaderboardCache.loadAsync(cached -> runOnUiThread(() -> onCacheLoaded(cached)));
     }
 
-    // Gets leaderboard data from Dreamlo API
-    private void fetchLeaderboardData() {
-        Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl("http://dreamlo.com/lb/")
-                .addConverterFactory(GsonConverterFactory.create())
-                .build();
-
-        DreamloLeaderboardService service = retrofit.create(DreamloLeaderboardService.class);
+    // Cached rows (if any) go up first; the network is only asked when they are not fresh
+    private void onCacheLoaded(LeaderboardCache.Snapshot cached) {
+        if (isDestroyed()) return;
+        if (cached != null && !cached.entries.isEmpty()) {
+            Log.d(TAG, "Showing cached leaderboard, age " + cached.ageMillis() + "ms");
+            showEntries(cached.entries, "cached");
+            rankIndex.seed(cached.entries);
+        }
+        if (leaderboardCache.isFresh(cached)) {
+            Log.d(TAG, "Cached leaderboard is fresh, skipping refresh");
+            pager.resumeFrom(cached.entries);
+        } else {
+            pager.loadFirstPage();
+        }
+    }
 
-        String PUBLIC_CODE = BuildConfig.PUBLIC_CODE;
-        Call<DreamloResponse> call = service.getLeaderboard(PUBLIC_CODE);
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        pager.cancel();
+    }
 
-        call.enqueue(new Callback<>() {
+    // Renders the first page as soon as it arrives and appends later pages as the list nears its end
+    private void setupPaging(LinearLayoutManager layoutManager) {
+        pager = new LeaderboardPager(NetworkModule.getInstance().getDreamloService(), BuildConfig.PUBLIC_CODE,
+                PAGE_SIZE, PREFETCH_DISTANCE, new LeaderboardPager.Listener() {
             @Override
-            public void onResponse(@NonNull Call<DreamloResponse> call, @NonNull Response<DreamloResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    List<LeaderboardEntry> entries = response.body().dreamlo.leaderboard.entry;
-
-                    if (entries != null) {
-                        adapter.updateData(entries);
-                    } else {
-                        Toast.makeText(LeaderboardActivity.this, "Leaderboard is empty", Toast.LENGTH_SHORT).show();
-                    }
+            public void onFirstPage(List<LeaderboardEntry> entries) {
+                rankIndex.replaceAll(entries, pager.isEndReached());
+                if (entries.isEmpty() && adapter.getItemCount() == 0) {
+                    Toast.makeText(LeaderboardActivity.this, "Leaderboard is empty", Toast.LENGTH_SHORT).show();
+                    return;
                 }
+                showEntries(entries, "network");
+                leaderboardCache.saveAsync(entries);
             }
 
             @Override
-            public void onFailure(@NonNull Call<DreamloResponse> call, @NonNull Throwable t) {
-                Toast.makeText(LeaderboardActivity.this, "Failed to load leaderboard", Toast.LENGTH_SHORT).show();
+            public void onPageAppended(List<LeaderboardEntry> entries) {
+                adapter.appendData(entries);
+                rankIndex.addAll(entries, pager.isEndReached());
             }
-        });
-    }
-
-    // Retrofit interface for Dreamlo API endpoint
-    public interface DreamloLeaderboardService {
-        @GET("{publicCode}/json")
-        Call<DreamloResponse> getLeaderboard(@retrofit2.http.Path("publicCode") String publicCode);
-    }
 
-    // Data classes that map to Dreamlo JSON response structure
-    public static class DreamloResponse {
-        public Leaderboard dreamlo;
-    }
+            @Override
+            public void onPageFailed(Throwable error, boolean firstPage) {
+                Log.w(TAG, "Leaderboard page failed", error);
+                if (firstPage && adapter.getItemCount() == 0) {
+                    Toast.makeText(LeaderboardActivity.this, "Failed to load leaderboard", Toast.LENGTH_SHORT).show();
+                }
+            }
+        });
 
-    public static class Leaderboard {
-        public LeaderboardEntries leaderboard;
+        recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView view, int dx, int dy) {
+                // dy == 0 is a layout pass, e.g. a first page too short to scroll: still check for more
+                if (dy < 0) return;
+                pager.onScrolled(layoutManager.findLastVisibleItemPosition(), adapter.getItemCount());
+            }
+        });
     }
 
-    public static class LeaderboardEntries {
-        public List<LeaderboardEntry> entry;
+    // Hands entries to the adapter and reports time-to-first-row once per open
+    private void showEntries(List<LeaderboardEntry> entries, String source) {
+        adapter.updateData(entries);
+        if (firstRowReported || entries.isEmpty()) return;
+        firstRowReported = true;
+        recyclerView.post(() -> Log.d(TAG, "Time to first row (" + source + "): "
+                + (SystemClock.elapsedRealtime() - openedAtMillis) + "ms"));
     }
 
-    // Single leaderboard entry with player data
+    // Single leaderboard entry with player data (filled by LeaderboardParser)
     public static class LeaderboardEntry {
         public String name;    // Player name
         public int score;      // Player score
         public int seconds;    // Time taken in seconds
 
-        @SuppressWarnings("unused")
-        public String text;    // Optional metadata field
-
-        @SuppressWarnings("unused")
-        public String date;    // Entry date field
-
         // Converts seconds to MM:SS format
         public String getFormattedTime() {
             int minutes = seconds / 60;
@@ -1,5 +1,8 @@
 package com.example.wordguessinggame;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -8,21 +11,108 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 // Adapter for binding leaderboard entries to RecyclerView
 public class LeaderboardAdapter extends RecyclerView.Adapter<LeaderboardAdapter.ViewHolder> {
+    private static final String TAG = "LeaderboardAdapter";
 
-    private List<LeaderboardActivity.LeaderboardEntry> entries;
+    // Diffs run here so a large board never blocks a frame
+    private static final ExecutorService DIFF_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "leaderboard-diff");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Reads an entry's fields for keying and diffing
+    private static final LeaderboardRows.Fields<LeaderboardActivity.LeaderboardEntry> FIELDS =
+            new LeaderboardRows.Fields<LeaderboardActivity.LeaderboardEntry>() {
+                @Override
+                public String name(LeaderboardActivity.LeaderboardEntry entry) { return entry.name; }
+
+                @Override
+                public int score(LeaderboardActivity.LeaderboardEntry entry) { return entry.score; }
+
+                @Override
+                public int seconds(LeaderboardActivity.LeaderboardEntry entry) { return entry.seconds; }
+            };
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final LeaderboardRows.IdRegistry ids = new LeaderboardRows.IdRegistry();
+
+    private LeaderboardRows<LeaderboardActivity.LeaderboardEntry> rows;
+    private final AtomicInteger generation = new AtomicInteger(); // Bumped per update; older diffs are dropped
+    private volatile long lastDiffNanos;
 
     public LeaderboardAdapter(List<LeaderboardActivity.LeaderboardEntry> entries) {
-        this.entries = entries;
+        this.rows = buildRows(entries);
+        setHasStableIds(true);
     }
 
-    // Updates data with D  iffUtil for efficient RecyclerView updates
+    // Updates data with DiffUtil computed off the main thread; only the newest pending update is applied
     public void updateData(List<LeaderboardActivity.LeaderboardEntry> newEntries) {
-        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffCallback(entries, newEntries));
-        entries = newEntries;
+        final int submitted = generation.incrementAndGet();
+        final LeaderboardRows<LeaderboardActivity.LeaderboardEntry> base = rows;
+
+        if (base.size() == 0 || newEntries.isEmpty()) {
+            // Nothing to diff: swap right away so the first rows don't wait for a thread hop
+            int oldSize = base.size();
+            rows = buildRows(newEntries);
+            if (oldSize > 0) notifyItemRangeRemoved(0, oldSize);
+            if (!newEntries.isEmpty()) notifyItemRangeInserted(0, newEntries.size());
+            return;
+        }
+
+        DIFF_EXECUTOR.execute(() -> {
+            if (submitted != generation.get()) return; // A newer update is already queued
+            long start = System.nanoTime();
+            LeaderboardRows<LeaderboardActivity.LeaderboardEntry> next = buildRows(newEntries);
+            DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffCallback(base, next));
+            long elapsed = System.nanoTime() - start;
+            mainHandler.post(() -> applyDiff(submitted, base, next, result, elapsed));
+        });
+    }
+
+    private void applyDiff(int submitted, LeaderboardRows<LeaderboardActivity.LeaderboardEntry> base,
+                           LeaderboardRows<LeaderboardActivity.LeaderboardEntry> next,
+                           DiffUtil.DiffResult result, long elapsedNanos) {
+        if (submitted != generation.get()) {
+            Log.d(TAG, "Dropping superseded diff");
+            return;
+        }
+        // Pages appended while diffing are already on screen below the old rows, and the pager has moved past them
+        List<LeaderboardActivity.LeaderboardEntry> appended = rows == base ? null : rows.entriesFrom(base.size());
+        rows = next;
+        lastDiffNanos = elapsedNanos;
+        Log.d(TAG, "Diffed " + base.size() + " -> " + next.size() + " rows in "
+                + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms");
         result.dispatchUpdatesTo(this);
+        if (appended != null) {
+            // The diff leaves them at the end, so keep them there; only their keys may change
+            int start = rows.size();
+            rows = rows.append(appended);
+            notifyItemRangeChanged(start, appended.size());
+        }
+    }
+
+    // Appends a page below the current rows without diffing the whole list
+    public void appendData(List<LeaderboardActivity.LeaderboardEntry> moreEntries) {
+        if (moreEntries.isEmpty()) return;
+        int start = rows.size();
+        rows = rows.append(moreEntries);
+        notifyItemRangeInserted(start, moreEntries.size());
+    }
+
+    public long getLastDiffMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastDiffNanos);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return rows.idAt(position);
     }
 
     @NonNull
@@ -35,7 +125,7 @@ public class LeaderboardAdapter extends RecyclerView.Adapter<LeaderboardAdapter.
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        LeaderboardActivity.LeaderboardEntry entry = entries.get(position);
+        LeaderboardActivity.LeaderboardEntry entry = rows.get(position);
         holder.tvPosition.setText(String.valueOf(position + 1));
         holder.tvName.setText(entry.name);
         holder.tvScore.setText(String.valueOf(entry.score));
@@ -44,7 +134,12 @@ public class LeaderboardAdapter extends RecyclerView.Adapter<LeaderboardAdapter.
 
     @Override
     public int getItemCount() {
-        return entries.size();
+        return rows.size();
+    }
+
+    private LeaderboardRows<LeaderboardActivity.LeaderboardEntry> buildRows(
+            List<LeaderboardActivity.LeaderboardEntry> entries) {
+        return LeaderboardRows.of(entries, FIELDS, ids);
     }
 
     // ViewHolder caches view references for efficient recycling
@@ -62,31 +157,28 @@ public class LeaderboardAdapter extends RecyclerView.Adapter<LeaderboardAdapter.
 
     // Calculates differences between old and new data for efficient updates
     private static class DiffCallback extends DiffUtil.Callback {
-        private final List<LeaderboardActivity.LeaderboardEntry> oldList, newList;
+        private final LeaderboardRows<LeaderboardActivity.LeaderboardEntry> oldRows, newRows;
 
-        public DiffCallback(List<LeaderboardActivity.LeaderboardEntry> oldList,
-                            List<LeaderboardActivity.LeaderboardEntry> newList) {
-            this.oldList = oldList;
-            this.newList = newList;
+        DiffCallback(LeaderboardRows<LeaderboardActivity.LeaderboardEntry> oldRows,
+                     LeaderboardRows<LeaderboardActivity.LeaderboardEntry> newRows) {
+            this.oldRows = oldRows;
+            this.newRows = newRows;
         }
 
         @Override
-        public int getOldListSize() { return oldList.size(); }
+        public int getOldListSize() { return oldRows.size(); }
 
         @Override
-        public int getNewListSize() { return newList.size(); }
+        public int getNewListSize() { return newRows.size(); }
 
-        // Identifies if items represent the same entity (using name as unique identifier)
         @Override
         public boolean areItemsTheSame(int oldPos, int newPos) {
-            return oldList.get(oldPos).name.equals(newList.get(newPos).name);
+            return oldRows.sameItem(oldPos, newRows, newPos);
         }
 
-        // Checks if the content of items is identical
         @Override
         public boolean areContentsTheSame(int oldPos, int newPos) {
-            return oldList.get(oldPos).score == newList.get(newPos).score &&
-                    oldList.get(oldPos).seconds == newList.get(newPos).seconds;
+            return oldRows.sameContents(oldPos, newRows, newPos);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import android.util.Log;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+// Last good leaderboard in a compact binary file, so the screen can show rows before the network answers
+public class LeaderboardCache {
+    private static final String TAG = "LeaderboardCache";
+    private static final String FILE_NAME = "leaderboard.bin";
+    private static final int MAGIC = 0x57474c42; // "WGLB"
+
+    // Freshness defaults
+    public static final long DEFAULT_TTL_MS = 60_000;                  // Skip the refresh while younger
+    public static final long DEFAULT_MAX_STALE_MS = 7L * 24 * 3600_000; // Don't show anything older
+
+    private static LeaderboardCache instance;
+
+    private final File file;
+    private final long ttlMillis;
+    private final long maxStaleMillis;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "leaderboard-cache");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Cached entries plus when they were fetched
+    public static class Snapshot {
+        public final List<LeaderboardActivity.LeaderboardEntry> entries;
+        public final long fetchedAtMillis;
+
+        Snapshot(List<LeaderboardActivity.LeaderboardEntry> entries, long fetchedAtMillis) {
+            this.entries = entries;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+
+        public long ageMillis() {
+            return Math.max(0, System.currentTimeMillis() - fetchedAtMillis);
+        }
+    }
+
+    public LeaderboardCache(File file, long ttlMillis, long maxStaleMillis) {
+        this.file = file;
+        this.ttlMillis = ttlMillis;
+        this.maxStaleMillis = maxStaleMillis;
+    }
+
+    public static synchronized LeaderboardCache getInstance(Context context) {
+        if (instance == null) {
+            File file = new File(context.getApplicationContext().getFilesDir(), FILE_NAME);
+            instance = new LeaderboardCache(file, DEFAULT_TTL_MS, DEFAULT_MAX_STALE_MS);
+        }
+        return instance;
+    }
+
+    // Young enough that a background refresh can be skipped
+    public boolean isFresh(Snapshot snapshot) {
+        return snapshot != null && snapshot.ageMillis() < ttlMillis;
+    }
+
+    // Last stored board, or null when missing, unreadable or older than the max staleness
+    public synchronized Snapshot load() {
+        if (!file.exists()) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) return null;
+            long fetchedAt = in.readLong();
+            int count = in.readInt();
+            List<LeaderboardActivity.LeaderboardEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                LeaderboardActivity.LeaderboardEntry entry = new LeaderboardActivity.LeaderboardEntry();
+                entry.name = in.readUTF();
+                entry.score = in.readInt();
+                entry.seconds = in.readInt();
+                entries.add(entry);
+            }
+            Snapshot snapshot = new Snapshot(entries, fetchedAt);
+            return snapshot.ageMillis() <= maxStaleMillis ? snapshot : null;
+        } catch (IOException e) {
+            Log.w(TAG, "Ignoring unreadable leaderboard cache", e);
+            return null;
+        }
+    }
+
+    // Read the last stored board on the cache thread (queued behind any pending save) and hand it, or null,
+    // to the callback on that thread
+    public void loadAsync(Consumer<Snapshot> callback) {
+        writer.execute(() -> callback.accept(load()));
+    }
+
+    // Persist a freshly fetched board in the background
+    public void saveAsync(List<LeaderboardActivity.LeaderboardEntry> entries) {
+        List<LeaderboardActivity.LeaderboardEntry> copy = new ArrayList<>(entries);
+        long fetchedAt = System.currentTimeMillis();
+        writer.execute(() -> save(copy, fetchedAt));
+    }
+
+    private synchronized void save(List<LeaderboardActivity.LeaderboardEntry> entries, long fetchedAt) {
+        File tmp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeLong(fetchedAt);
+            out.writeInt(entries.size());
+            for (LeaderboardActivity.LeaderboardEntry entry : entries) {
+                out.writeUTF(entry.name != null ? entry.name : "");
+                out.writeInt(entry.score);
+                out.writeInt(entry.seconds);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to cache leaderboard", e);
+            return;
+        }
+        if (!tmp.renameTo(file)) {
+            Log.e(TAG, "Failed to replace leaderboard cache");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.wordguessinggame;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+// Decodes LeaderboardPage responses with the streaming parser; other types fall through to Gson
+public final class LeaderboardConverterFactory extends Converter.Factory {
+
+    public static LeaderboardConverterFactory create() {
+        return new LeaderboardConverterFactory();
+    }
+
+    private LeaderboardConverterFactory() {
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+        if (type != LeaderboardPage.class) return null;
+        return body -> {
+            try {
+                LeaderboardPage page = new LeaderboardPage();
+                LeaderboardParser.parse(body.charStream(), page);
+                return page;
+            } finally {
+                body.close();
+            }
+        };
+    }
+}
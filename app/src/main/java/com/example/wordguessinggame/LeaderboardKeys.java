@@ -0,0 +1,20 @@
+package com.example.wordguessinggame;
+
+import java.util.Map;
+
+// Stable row identity for the leaderboard: player name plus its occurrence ordinal
+public final class LeaderboardKeys {
+    private static final char ORDINAL_SEPARATOR = '\u0000';
+
+    private LeaderboardKeys() {
+    }
+
+    // Duplicate names get their occurrence ordinal so each row keeps its own identity
+    public static String keyOf(String name, Map<String, Integer> nameCounts) {
+        String safeName = name != null ? name : "";
+        Integer seen = nameCounts.get(safeName);
+        int ordinal = seen != null ? seen : 0;
+        nameCounts.put(safeName, ordinal + 1);
+        return ordinal == 0 ? safeName : safeName + ORDINAL_SEPARATOR + ordinal;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.wordguessinggame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Rows of one Dreamlo response, filled by the streaming parser and handed to the adapter as-is
+public final class LeaderboardPage implements LeaderboardParser.EntrySink {
+    public final List<LeaderboardActivity.LeaderboardEntry> entries = new ArrayList<>();
+
+    @Override
+    public void onEntry(String name, int score, int seconds) {
+        LeaderboardActivity.LeaderboardEntry entry = new LeaderboardActivity.LeaderboardEntry();
+        entry.name = name;
+        entry.score = score;
+        entry.seconds = seconds;
+        entries.add(entry);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.wordguessinggame;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+// Loads the Dreamlo board one ranged page at a time as the list scrolls toward its end
+public class LeaderboardPager {
+    private static final String TAG = "LeaderboardPager";
+
+    // Paging defaults
+    public static final int DEFAULT_PAGE_SIZE = 25;
+    public static final int DEFAULT_PREFETCH_DISTANCE = 10; // Rows left before the next page is requested
+
+    // Receives pages on the main thread
+    public interface Listener {
+        void onFirstPage(List<LeaderboardActivity.LeaderboardEntry> entries);
+
+        void onPageAppended(List<LeaderboardActivity.LeaderboardEntry> entries);
+
+        void onPageFailed(Throwable error, boolean firstPage);
+    }
+
+    private final DreamloLeaderboardService service;
+    private final String publicCode;
+    private final int pageSize;
+    private final int prefetchDistance;
+    private final Listener listener;
+    private final Set<String> seenNames = new HashSet<>();
+
+    private Call<LeaderboardPage> inFlight;
+    private int nextOffset;
+    private boolean endReached;
+
+    public LeaderboardPager(DreamloLeaderboardService service, String publicCode,
+                            int pageSize, int prefetchDistance, Listener listener) {
+        this.service = service;
+        this.publicCode = publicCode;
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+        this.listener = listener;
+    }
+
+    // Start over from rank 1
+    public void loadFirstPage() {
+        cancel();
+        nextOffset = 0;
+        endReached = false;
+        seenNames.clear();
+        loadPage();
+    }
+
+    // Continue paging below rows that are already on screen (e.g. a fresh cached first page)
+    public void resumeFrom(List<LeaderboardActivity.LeaderboardEntry> shown) {
+        cancel();
+        seenNames.clear();
+        for (LeaderboardActivity.LeaderboardEntry entry : shown) {
+            if (entry.name != null) seenNames.add(entry.name);
+        }
+        nextOffset = shown.size();
+        endReached = shown.size() < pageSize;
+    }
+
+    // Called from the scroll listener; requests the next page once the last visible row is close to the end
+    public void onScrolled(int lastVisiblePosition, int itemCount) {
+        if (lastVisiblePosition >= itemCount - 1 - prefetchDistance) {
+            loadNextPage();
+        }
+    }
+
+    public void loadNextPage() {
+        if (inFlight != null || endReached || nextOffset == 0) return;
+        loadPage();
+    }
+
+    public boolean isEndReached() {
+        return endReached;
+    }
+
+    public void cancel() {
+        if (inFlight != null) {
+            inFlight.cancel();
+            inFlight = null;
+        }
+    }
+
+    private void loadPage() {
+        final int offset = nextOffset;
+        final boolean firstPage = offset == 0;
+        Call<LeaderboardPage> call = service.getLeaderboardPage(publicCode, offset, pageSize);
+        inFlight = call;
+        call.enqueue(new Callback<>() {
+            @Override
+            public void onResponse(@NonNull Call<LeaderboardPage> call,
+                                   @NonNull Response<LeaderboardPage> response) {
+                if (call != inFlight) return; // Superseded by a restart
+                inFlight = null;
+                if (!response.isSuccessful()) {
+                    listener.onPageFailed(new RuntimeException("HTTP " + response.code()), firstPage);
+                    return;
+                }
+                List<LeaderboardActivity.LeaderboardEntry> page = response.body() != null
+                        ? response.body().entries : new ArrayList<>();
+                nextOffset = offset + page.size();
+                endReached = page.size() < pageSize;
+                Log.d(TAG, "Loaded " + page.size() + " rows at offset " + offset);
+
+                // Scores can move between requests; don't show a player twice
+                List<LeaderboardActivity.LeaderboardEntry> fresh = new ArrayList<>(page.size());
+                for (LeaderboardActivity.LeaderboardEntry entry : page) {
+                    if (entry.name != null && seenNames.add(entry.name)) fresh.add(entry);
+                }
+                if (firstPage) {
+                    listener.onFirstPage(fresh);
+                } else {
+                    listener.onPageAppended(fresh);
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<LeaderboardPage> call, @NonNull Throwable t) {
+                if (call != inFlight) return;
+                inFlight = null;
+                listener.onPageFailed(t, firstPage);
+            }
+        });
+    }
+}
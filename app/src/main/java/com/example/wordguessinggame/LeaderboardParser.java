@@ -0,0 +1,133 @@
+package com.example.wordguessinggame;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+
+// Streaming decoder for Dreamlo's {"dreamlo":{"leaderboard":{"entry":[...]}}} payload
+public final class LeaderboardParser {
+
+    // Receives one row at a time, in board order
+    public interface EntrySink {
+        void onEntry(String name, int score, int seconds);
+    }
+
+    private LeaderboardParser() {
+    }
+
+    // Walks the payload without binding it; returns the number of rows emitted
+    public static int parse(Reader source, EntrySink sink) throws IOException {
+        JsonReader reader = new JsonReader(source);
+        if (!enterObject(reader)) return 0;
+        int count = 0;
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("dreamlo")) {
+                reader.skipValue();
+            } else if (enterObject(reader)) {
+                count += parseDreamlo(reader, sink);
+                reader.endObject();
+            }
+        }
+        reader.endObject();
+        return count;
+    }
+
+    private static int parseDreamlo(JsonReader reader, EntrySink sink) throws IOException {
+        int count = 0;
+        while (reader.hasNext()) {
+            // "leaderboard" is null on an empty board
+            if (!reader.nextName().equals("leaderboard")) {
+                reader.skipValue();
+            } else if (enterObject(reader)) {
+                count += parseLeaderboard(reader, sink);
+                reader.endObject();
+            }
+        }
+        return count;
+    }
+
+    private static int parseLeaderboard(JsonReader reader, EntrySink sink) throws IOException {
+        int count = 0;
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("entry")) {
+                reader.skipValue();
+                continue;
+            }
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (parseEntry(reader, sink)) count++;
+                }
+                reader.endArray();
+            } else if (token == JsonToken.BEGIN_OBJECT) {
+                // A board with one row comes back as a bare object
+                if (parseEntry(reader, sink)) count++;
+            } else {
+                reader.skipValue();
+            }
+        }
+        return count;
+    }
+
+    // Reads name/score/seconds and skips everything else (text, date, ...); rows without a name are dropped
+    private static boolean parseEntry(JsonReader reader, EntrySink sink) throws IOException {
+        if (!enterObject(reader)) return false;
+        String name = null;
+        int score = 0;
+        int seconds = 0;
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = readString(reader);
+                    break;
+                case "score":
+                    score = readInt(reader);
+                    break;
+                case "seconds":
+                    seconds = readInt(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        if (name == null) return false;
+        sink.onEntry(name, score, seconds);
+        return true;
+    }
+
+    // Opens an object, or consumes a non-object value and returns false
+    private static boolean enterObject(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            reader.beginObject();
+            return true;
+        }
+        reader.skipValue();
+        return false;
+    }
+
+    private static String readString(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) return reader.nextString();
+        reader.skipValue();
+        return null;
+    }
+
+    // Dreamlo quotes its numbers ("score":"80"); malformed values count as 0
+    private static int readInt(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            try {
+                return reader.nextInt();
+            } catch (NumberFormatException e) {
+                reader.skipValue();
+                return 0;
+            }
+        }
+        reader.skipValue();
+        return 0;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Last known leaderboard as an indexed skip list ordered by score desc, seconds asc (then name, for a total
+// order). Every forward link stores how many rows it skips, so "what rank would score S in T seconds get"
+// is one O(log n) descent, and submissions and refreshes update the index in place.
+public class LeaderboardRankIndex {
+    private static final int MAX_LEVEL = 24;
+    private static final int LEVEL_UP_ONE_IN = 4;
+
+    private static LeaderboardRankIndex instance;
+
+    private final Node head = new Node(null, 0, 0, MAX_LEVEL);
+    private final Map<String, Node> byName = new HashMap<>();
+    private final Random random = new Random();
+    private int level = 1;
+    private int size;
+    private boolean complete; // False while only the top of the board is known
+    private boolean loaded;   // Anything but the cache seed has arrived
+    private boolean seeded;   // The cached board has been read in
+
+    private static final class Node {
+        final String name;
+        final int score;
+        final int seconds;
+        final Node[] next;
+        final int[] span; // Rows skipped by next[i], counting the target
+
+        Node(String name, int score, int seconds, int levels) {
+            this.name = name;
+            this.score = score;
+            this.seconds = seconds;
+            this.next = new Node[levels];
+            this.span = new int[levels];
+        }
+    }
+
+    // Shared index, seeded from the cached board in the background
+    public static synchronized LeaderboardRankIndex getInstance(Context context) {
+        if (instance == null) {
+            LeaderboardRankIndex index = new LeaderboardRankIndex();
+            LeaderboardCache cache = LeaderboardCache.getInstance(context);
+            Thread seed = new Thread(() -> {
+                LeaderboardCache.Snapshot snapshot = cache.load();
+                if (snapshot != null) index.seed(snapshot.entries);
+            }, "rank-index-seed");
+            seed.setDaemon(true);
+            seed.start();
+            instance = index;
+        }
+        return instance;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // Whether every row of the board is known (otherwise ranks past size() are lower bounds)
+    public synchronized boolean isComplete() {
+        return complete;
+    }
+
+    // Whether ranks reflect a real board (cached or fetched) rather than only the player's own submissions
+    public synchronized boolean hasBoard() {
+        return loaded || seeded;
+    }
+
+    // 1-based rank a score would take: one plus the rows strictly ahead of it
+    public synchronized int rankOf(int score, int seconds) {
+        Node x = head;
+        int ahead = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && strictlyAhead(x.next[i], score, seconds)) {
+                ahead += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return ahead + 1;
+    }
+
+    // A player's own score: kept only if it beats their current row, like Dreamlo does
+    public synchronized void submit(String name, int score, int seconds) {
+        if (name == null) return;
+        Node current = byName.get(name);
+        if (current != null) {
+            if (score < current.score || (score == current.score && seconds >= current.seconds)) return;
+            delete(current);
+        }
+        insert(name, score, seconds);
+    }
+
+    // A freshly fetched board (or its first page) replaces everything known
+    public synchronized void replaceAll(List<LeaderboardActivity.LeaderboardEntry> entries, boolean complete) {
+        clear();
+        addAll(entries, complete);
+    }
+
+    // A later page of the same board
+    public synchronized void addAll(List<LeaderboardActivity.LeaderboardEntry> entries, boolean complete) {
+        for (LeaderboardActivity.LeaderboardEntry entry : entries) {
+            submit(entry.name, entry.score, entry.seconds);
+        }
+        this.complete = complete;
+        loaded = true;
+    }
+
+    // Cached board, used only until a real fetch arrives
+    synchronized void seed(List<LeaderboardActivity.LeaderboardEntry> entries) {
+        if (loaded) return;
+        clear();
+        for (LeaderboardActivity.LeaderboardEntry entry : entries) {
+            submit(entry.name, entry.score, entry.seconds);
+        }
+        complete = entries.size() < LeaderboardPager.DEFAULT_PAGE_SIZE; // A short board is all there is
+        seeded = true;
+    }
+
+    private void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+        byName.clear();
+        level = 1;
+        size = 0;
+    }
+
+    // Row order: higher score first, then faster time, then name
+    private static boolean before(Node node, int score, int seconds, String name) {
+        if (node.score != score) return node.score > score;
+        if (node.seconds != seconds) return node.seconds < seconds;
+        return node.name.compareTo(name) < 0;
+    }
+
+    private static boolean strictlyAhead(Node node, int score, int seconds) {
+        return node.score > score || (node.score == score && node.seconds < seconds);
+    }
+
+    private int randomLevel() {
+        int levels = 1;
+        while (levels < MAX_LEVEL && random.nextInt(LEVEL_UP_ONE_IN) == 0) levels++;
+        return levels;
+    }
+
+    private void insert(String name, int score, int seconds) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i], score, seconds, name)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int levels = randomLevel();
+        if (levels > level) {
+            for (int i = level; i < levels; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                update[i].span[i] = size;
+            }
+            level = levels;
+        }
+
+        Node node = new Node(name, score, seconds, levels);
+        for (int i = 0; i < levels; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = levels; i < level; i++) {
+            update[i].span[i]++; // Higher links now skip over one more row
+        }
+        byName.put(name, node);
+        size++;
+    }
+
+    private void delete(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i] != node
+                    && before(x.next[i], node.score, node.seconds, node.name)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) level--;
+        byName.remove(node.name);
+        size--;
+    }
+}
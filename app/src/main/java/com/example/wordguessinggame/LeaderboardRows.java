@@ -0,0 +1,128 @@
+package com.example.wordguessinggame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The leaderboard rows as the adapter diffs them: each entry with a stable key (name + occurrence ordinal),
+// the item id for that key, and its score and time. Appends fill spare capacity in place (doubling when
+// full) and never write below an existing view's size, which is all a background diff reads.
+public final class LeaderboardRows<E> {
+
+    // Reads the fields the rows key and compare on from the caller's entry type
+    public interface Fields<E> {
+        String name(E entry);
+
+        int score(E entry);
+
+        int seconds(E entry);
+    }
+
+    // Same key, same id for the life of the registry (one per adapter)
+    public static final class IdRegistry {
+        private final Map<String, Long> idsByKey = new HashMap<>();
+        private long nextId;
+
+        synchronized void assign(String[] keys, long[] ids, int from, int to) {
+            for (int i = from; i < to; i++) {
+                Long id = idsByKey.get(keys[i]);
+                if (id == null) {
+                    id = nextId++;
+                    idsByKey.put(keys[i], id);
+                }
+                ids[i] = id;
+            }
+        }
+    }
+
+    private final Fields<E> fields;
+    private final IdRegistry registry;
+    private final Object[] entries;
+    private final String[] keys;
+    private final long[] ids;
+    private final int[] scores;
+    private final int[] seconds;
+    private final int size;
+    private final Map<String, Integer> nameCounts; // Occurrences so far, for keying appended rows
+
+    private LeaderboardRows(Fields<E> fields, IdRegistry registry, Object[] entries, String[] keys, long[] ids,
+                            int[] scores, int[] seconds, int size, Map<String, Integer> nameCounts) {
+        this.fields = fields;
+        this.registry = registry;
+        this.entries = entries;
+        this.keys = keys;
+        this.ids = ids;
+        this.scores = scores;
+        this.seconds = seconds;
+        this.size = size;
+        this.nameCounts = nameCounts;
+    }
+
+    public static <E> LeaderboardRows<E> of(List<E> entries, Fields<E> fields, IdRegistry registry) {
+        int n = entries.size();
+        LeaderboardRows<E> empty = new LeaderboardRows<>(fields, registry, new Object[n], new String[n],
+                new long[n], new int[n], new int[n], 0, new HashMap<>());
+        return empty.append(entries);
+    }
+
+    // Only the new rows are keyed and copied; earlier rows move only when the arrays have to grow
+    public LeaderboardRows<E> append(List<E> more) {
+        int start = size;
+        int end = start + more.size();
+        Object[] entries = this.entries;
+        String[] keys = this.keys;
+        long[] ids = this.ids;
+        int[] scores = this.scores;
+        int[] seconds = this.seconds;
+        if (end > entries.length) {
+            int capacity = Math.max(end, entries.length * 2);
+            entries = Arrays.copyOf(entries, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            seconds = Arrays.copyOf(seconds, capacity);
+        }
+        for (int i = start; i < end; i++) {
+            E entry = more.get(i - start);
+            entries[i] = entry;
+            keys[i] = LeaderboardKeys.keyOf(fields.name(entry), nameCounts);
+            scores[i] = fields.score(entry);
+            seconds[i] = fields.seconds(entry);
+        }
+        registry.assign(keys, ids, start, end);
+        return new LeaderboardRows<>(fields, registry, entries, keys, ids, scores, seconds, end, nameCounts);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int position) {
+        return (E) entries[position];
+    }
+
+    public long idAt(int position) {
+        return ids[position];
+    }
+
+    // Entries from position on, e.g. pages appended after this view was taken from an older one
+    public List<E> entriesFrom(int position) {
+        List<E> tail = new ArrayList<>(size - position);
+        for (int i = position; i < size; i++) tail.add(get(i));
+        return tail;
+    }
+
+    // DiffUtil areItemsTheSame: the same player occurrence
+    public boolean sameItem(int position, LeaderboardRows<E> other, int otherPosition) {
+        return ids[position] == other.ids[otherPosition];
+    }
+
+    // DiffUtil areContentsTheSame: the rank label counts as content, so a moved row is redrawn
+    public boolean sameContents(int position, LeaderboardRows<E> other, int otherPosition) {
+        return position == otherPosition && scores[position] == other.scores[otherPosition]
+                && seconds[position] == other.seconds[otherPosition];
+    }
+}
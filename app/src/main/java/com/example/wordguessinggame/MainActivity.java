@@ -12,7 +12,7 @@ import androidx.appcompat.app.AppCompatActivity;
 // Main entry point handling user authentication and navigation
 public class MainActivity extends AppCompatActivity {
     private Prefs prefs;          // Persistent storage for user preferences
-    private Button btnStartGame, btnLeaderboard;
+    private Button btnStartGame, btnLeaderboard, btnStats;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -20,6 +20,7 @@ public class MainActivity extends AppCompatActivity {
         setContentView(R.layout.activity_main);
 
         prefs = new Prefs(this);  // Initialize preferences helper
+        ScoreOutbox.getInstance(this); // Resume posting scores left over from earlier sessions
         initializeViews();
         checkUserName();          // Verify user registration on launch
     }
@@ -53,11 +54,22 @@ public class MainActivity extends AppCompatActivity {
     private void enableNavigationButtons() {
         btnStartGame.setVisibility(View.VISIBLE);     // Game entry
         btnLeaderboard.setVisibility(View.VISIBLE);    // Scores view
+        btnStats.setVisibility(View.VISIBLE);          // Personal history
+        prefetchWords();
+    }
+
+    // Start indexing the difficulty pool; without a bundled dictionary rounds come from the API instead,
+    // so warm the word supply so the first round starts without waiting on the network
+    private void prefetchWords() {
+        if (WordPool.getInstance(this) == null) {
+            WordSupply.getInstance(this).prefill();
+        }
     }
 
     private void initializeViews() {
         btnStartGame = findViewById(R.id.btn_start_game);
         btnLeaderboard = findViewById(R.id.btn_leaderboard);
+        btnStats = findViewById(R.id.btn_stats);
         setupButtonListeners();
     }
 
@@ -69,6 +81,18 @@ public class MainActivity extends AppCompatActivity {
         // Show leaderboard
         btnLeaderboard.setOnClickListener(v ->
                 startActivity(new Intent(this, LeaderboardActivity.class)));
+
+        // Show personal stats
+        btnStats.setOnClickListener(v ->
+                startActivity(new Intent(this, StatsActivity.class)));
+
+        // Debug builds: long-press the leaderboard button for network metrics
+        if (BuildConfig.DEBUG) {
+            btnLeaderboard.setOnLongClickListener(v -> {
+                startActivity(new Intent(this, MetricsActivity.class));
+                return true;
+            });
+        }
     }
 
     private void showEmptyNameError() {
@@ -0,0 +1,64 @@
+package com.example.wordguessinggame;
+
+import android.content.ClipData;
+import android.content.ClipboardManager;
+import android.content.Context;
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.TextView;
+import android.widget.Toast;
+import androidx.appcompat.app.AppCompatActivity;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Debug screen showing API metrics, connection timings and word supply stats, with a JSON export
+public class MetricsActivity extends AppCompatActivity {
+    private static final String TAG = "MetricsActivity";
+    private static final String DUMP_FILE = "api_metrics.json";
+
+    private TextView tvMetrics;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_metrics);
+
+        tvMetrics = findViewById(R.id.tvMetrics);
+        findViewById(R.id.btnRefreshMetrics).setOnClickListener(v -> render());
+        findViewById(R.id.btnExportMetrics).setOnClickListener(v -> exportJson());
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        render();
+    }
+
+    private void render() {
+        String report = "== API ==\n" + ApiMetrics.getInstance().describe()
+                + "\n" + NetworkModule.getInstance().getCoalescingApiService().describeStats() + "\n"
+                + "\n== API guard ==\n" + NetworkModule.getInstance().getApiGuard().describe()
+                + "\n== Connection phases (avg/max) ==\n" + NetworkModule.getInstance().getTimings().describe()
+                + "\n== Word supply ==\n" + WordSupply.getInstance(this).describeStats()
+                + "\n" + RejectedWordFilter.getInstance(this).describeStats()
+                + "\n\n== Score outbox ==\n" + ScoreOutbox.getInstance(this).describeStats();
+        tvMetrics.setText(report);
+    }
+
+    // Write the JSON dump to filesDir (adb-readable via run-as) and put it on the clipboard
+    private void exportJson() {
+        String json = ApiMetrics.getInstance().toJson();
+        File file = new File(getFilesDir(), DUMP_FILE);
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to write metrics dump", e);
+        }
+        ClipboardManager clipboard = (ClipboardManager) getSystemService(Context.CLIPBOARD_SERVICE);
+        clipboard.setPrimaryClip(ClipData.newPlainText("api metrics", json));
+        Log.i(TAG, json);
+        Toast.makeText(this, getString(R.string.metrics_exported, file.getPath()), Toast.LENGTH_LONG).show();
+    }
+}
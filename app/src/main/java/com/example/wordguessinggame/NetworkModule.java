@@ -0,0 +1,103 @@
+package com.example.wordguessinggame;
+
+import android.os.Handler;
+import android.os.Looper;
+import com.google.gson.Gson;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+// Process-wide HTTP stack shared by the word API and the Dreamlo leaderboard
+public final class NetworkModule {
+    private static final String API_NINJAS_URL = "https://api.api-ninjas.com/";
+    private static final String DREAMLO_URL = "http://dreamlo.com/lb/";
+
+    // Connection tuning
+    private static final int MAX_IDLE_CONNECTIONS = 6;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final long CONNECT_TIMEOUT_SECONDS = 10;
+    private static final long READ_TIMEOUT_SECONDS = 15;
+
+    private static NetworkModule instance;
+
+    private final OkHttpClient client;
+    private final Gson gson;
+    private final NetworkTimings timings;
+    private final ApiGuard apiGuard;
+    private final CoalescingApiService apiService;
+    private final DreamloLeaderboardService dreamloService;
+
+    private NetworkModule() {
+        timings = new NetworkTimings();
+        client = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .connectTimeout(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .readTimeout(READ_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(true)
+                .addInterceptor(ApiMetrics.getInstance())
+                .eventListenerFactory(timings)
+                .build();
+        gson = new Gson();
+
+        // API-Ninjas has a quota: its calls go through the guard first, sharing the pool and dispatcher
+        apiGuard = ApiGuard.withDefaults();
+        OkHttpClient.Builder guarded = client.newBuilder();
+        guarded.interceptors().add(0, apiGuard); // Shed calls never reach ApiMetrics or the network
+
+        GsonConverterFactory converter = GsonConverterFactory.create(gson);
+        // Shared thesaurus calls complete on OkHttp threads; only the per-caller callbacks hop to the main thread
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        apiService = new CoalescingApiService(new Retrofit.Builder()
+                .baseUrl(API_NINJAS_URL)
+                .client(guarded.build())
+                .callbackExecutor(Runnable::run)
+                .addConverterFactory(converter)
+                .build()
+                .create(ApiService.class), mainHandler::post);
+        dreamloService = new Retrofit.Builder()
+                .baseUrl(DREAMLO_URL)
+                .client(client)
+                .addConverterFactory(LeaderboardConverterFactory.create())
+                .addConverterFactory(converter)
+                .build()
+                .create(DreamloLeaderboardService.class);
+    }
+
+    public static synchronized NetworkModule getInstance() {
+        if (instance == null) {
+            instance = new NetworkModule();
+        }
+        return instance;
+    }
+
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    public Gson getGson() {
+        return gson;
+    }
+
+    public NetworkTimings getTimings() {
+        return timings;
+    }
+
+    public ApiGuard getApiGuard() {
+        return apiGuard;
+    }
+
+    public ApiService getApiService() {
+        return apiService;
+    }
+
+    // Same service, typed for its single-flight counters
+    public CoalescingApiService getCoalescingApiService() {
+        return apiService;
+    }
+
+    public DreamloLeaderboardService getDreamloService() {
+        return dreamloService;
+    }
+}
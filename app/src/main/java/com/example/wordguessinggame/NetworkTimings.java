@@ -0,0 +1,164 @@
+package com.example.wordguessinggame;
+
+import android.util.Log;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+
+// OkHttp event listener factory that aggregates DNS, connect, TLS and time-to-first-byte per endpoint
+public class NetworkTimings implements EventListener.Factory {
+    private static final String TAG = "NetTiming";
+
+    // Phases reported for every endpoint
+    public enum Phase { DNS, CONNECT, TLS, TTFB, TOTAL }
+
+    private final Map<String, EndpointStats> endpoints = new TreeMap<>();
+
+    @Override
+    public EventListener create(Call call) {
+        return new CallTimer(endpointOf(call.request().url()));
+    }
+
+    // Groups URLs so per-player Dreamlo paths share one bucket
+    public static String endpointOf(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        if (url.host().contains("dreamlo") && segments.size() > 2) {
+            return "dreamlo/" + segments.get(2);
+        }
+        return url.host() + url.encodedPath();
+    }
+
+    private synchronized void record(String endpoint, long[] phaseNanos, boolean failed) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null) {
+            stats = new EndpointStats();
+            endpoints.put(endpoint, stats);
+        }
+        stats.calls++;
+        if (failed) stats.failures++;
+        for (Phase phase : Phase.values()) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos < 0) continue; // Phase skipped, e.g. pooled connection
+            stats.count[phase.ordinal()]++;
+            stats.totalNanos[phase.ordinal()] += nanos;
+            stats.maxNanos[phase.ordinal()] = Math.max(stats.maxNanos[phase.ordinal()], nanos);
+        }
+    }
+
+    // Average milliseconds for one phase of an endpoint (-1 when never observed)
+    public synchronized double averageMillis(String endpoint, Phase phase) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null || stats.count[phase.ordinal()] == 0) return -1;
+        return stats.totalNanos[phase.ordinal()] / (double) stats.count[phase.ordinal()] / 1_000_000.0;
+    }
+
+    // Multi-line report of every endpoint seen so far
+    public synchronized String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            sb.append(entry.getKey())
+                    .append(" calls=").append(stats.calls)
+                    .append(" failures=").append(stats.failures);
+            for (Phase phase : Phase.values()) {
+                int i = phase.ordinal();
+                if (stats.count[i] == 0) continue;
+                sb.append(String.format(Locale.US, " %s=%.1f/%.1fms",
+                        phase.name().toLowerCase(Locale.ROOT),
+                        stats.totalNanos[i] / (double) stats.count[i] / 1_000_000.0,
+                        stats.maxNanos[i] / 1_000_000.0));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    // Running totals for one endpoint (avg/max per phase)
+    private static class EndpointStats {
+        long calls;
+        long failures;
+        final long[] count = new long[Phase.values().length];
+        final long[] totalNanos = new long[Phase.values().length];
+        final long[] maxNanos = new long[Phase.values().length];
+    }
+
+    // Timestamps for a single call
+    private class CallTimer extends EventListener {
+        private final String endpoint;
+        private final long[] phaseNanos = {-1, -1, -1, -1, -1};
+        private long callStart, dnsStart, connectStart, secureStart;
+
+        CallTimer(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void callStart(Call call) {
+            callStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            dnsStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+            phaseNanos[Phase.DNS.ordinal()] = System.nanoTime() - dnsStart;
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectStart(Call call) {
+            secureStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectEnd(Call call, Handshake handshake) {
+            phaseNanos[Phase.TLS.ordinal()] = System.nanoTime() - secureStart;
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            phaseNanos[Phase.CONNECT.ordinal()] = System.nanoTime() - connectStart;
+        }
+
+        @Override
+        public void responseHeadersStart(Call call) {
+            if (phaseNanos[Phase.TTFB.ordinal()] < 0) {
+                phaseNanos[Phase.TTFB.ordinal()] = System.nanoTime() - callStart;
+            }
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            finish(false);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            finish(true);
+        }
+
+        private void finish(boolean failed) {
+            phaseNanos[Phase.TOTAL.ordinal()] = System.nanoTime() - callStart;
+            record(endpoint, phaseNanos, failed);
+            Log.d(TAG, endpoint + (failed ? " failed" : " done") + " in "
+                    + phaseNanos[Phase.TOTAL.ordinal()] / 1_000_000 + "ms");
+        }
+    }
+}
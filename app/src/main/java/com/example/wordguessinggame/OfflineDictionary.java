@@ -0,0 +1,228 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.util.Log;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+// Bundled word/synonym dictionary read in place from a memory-mapped asset (built by generateDictionary)
+public class OfflineDictionary {
+    private static final String TAG = "OfflineDictionary";
+    private static final String ASSET_NAME = "dictionary.bin";
+    private static final String WORD_GRAPH_ASSET_NAME = "words.dawg";
+    private static final int MAGIC = 0x57474431; // "WGD1"
+    private static final int HEADER_INTS = 6;
+
+    private static OfflineDictionary instance;
+    private static boolean loadAttempted;
+    private static WordGraph wordGraph;
+    private static boolean wordGraphLoadAttempted;
+    private static CandidateIndex candidateIndex;
+    private static boolean candidateIndexRequested;
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int wordCount;
+    private final int hashSlots;
+    private final int stringOffsetsPos;
+    private final int synonymStartPos;
+    private final int adjacencyPos;
+    private final int hashTablePos;
+    private final int blobPos;
+
+    public OfflineDictionary(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a dictionary file");
+        }
+        stringCount = buffer.getInt(8);
+        wordCount = buffer.getInt(12);
+        hashSlots = buffer.getInt(16);
+        int adjacencyCount = buffer.getInt(20);
+
+        stringOffsetsPos = HEADER_INTS * 4;
+        synonymStartPos = stringOffsetsPos + (stringCount + 1) * 4;
+        adjacencyPos = synonymStartPos + (wordCount + 1) * 4;
+        hashTablePos = adjacencyPos + adjacencyCount * 4;
+        blobPos = hashTablePos + hashSlots * 4;
+    }
+
+    // Shared instance mapped from assets (null if the asset is missing or corrupt)
+    public static synchronized OfflineDictionary getInstance(Context context) {
+        if (!loadAttempted) {
+            loadAttempted = true;
+            try {
+                instance = new OfflineDictionary(mapAsset(context, ASSET_NAME));
+                Log.d(TAG, "Loaded " + instance.size() + " offline words");
+            } catch (IOException | IllegalArgumentException e) {
+                Log.e(TAG, "Offline dictionary unavailable", e);
+            }
+        }
+        return instance;
+    }
+
+    // Guess vocabulary bundled next to the dictionary (null if the asset is missing or corrupt)
+    public static synchronized WordGraph getWordGraph(Context context) {
+        if (!wordGraphLoadAttempted) {
+            wordGraphLoadAttempted = true;
+            try {
+                wordGraph = new WordGraph(mapAsset(context, WORD_GRAPH_ASSET_NAME));
+                Log.d(TAG, "Loaded " + wordGraph.size() + " guess words in " + wordGraph.sizeInBytes() + " bytes");
+            } catch (IOException | IllegalArgumentException e) {
+                Log.e(TAG, "Word graph unavailable", e);
+            }
+        }
+        return wordGraph;
+    }
+
+    // Bitset index over the guess vocabulary; the first call starts building it in the background and
+    // every call returns null until it is ready (or for good if there is no word graph)
+    public static synchronized CandidateIndex getCandidateIndex(Context context) {
+        if (!candidateIndexRequested) {
+            candidateIndexRequested = true;
+            WordGraph graph = getWordGraph(context);
+            if (graph != null) {
+                Thread builder = new Thread(() -> {
+                    long start = System.nanoTime();
+                    CandidateIndex index = CandidateIndex.fromGraph(graph);
+                    synchronized (OfflineDictionary.class) {
+                        candidateIndex = index;
+                    }
+                    Log.d(TAG, "Candidate index over " + index.size() + " words built in "
+                            + (System.nanoTime() - start) / 1_000_000 + "ms");
+                }, "candidate-index");
+                builder.setDaemon(true);
+                builder.start();
+            }
+        }
+        return candidateIndex;
+    }
+
+    // Map the stored asset directly; fall back to a copy if it was compressed
+    private static ByteBuffer mapAsset(Context context, String assetName) throws IOException {
+        try (AssetFileDescriptor fd = context.getAssets().openFd(assetName);
+             FileInputStream in = fd.createInputStream()) {
+            return in.getChannel().map(FileChannel.MapMode.READ_ONLY, fd.getStartOffset(), fd.getLength());
+        } catch (IOException e) {
+            try (InputStream in = context.getAssets().open(assetName)) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = in.read(chunk)) != -1) bytes.write(chunk, 0, read);
+                byte[] data = bytes.toByteArray();
+                ByteBuffer copy = ByteBuffer.allocateDirect(data.length);
+                copy.put(data);
+                copy.flip();
+                return copy;
+            }
+        }
+    }
+
+    // Number of playable words
+    public int size() {
+        return wordCount;
+    }
+
+    public String wordAt(int id) {
+        return stringAt(id);
+    }
+
+    // Word id via the open-addressing hash table, or -1
+    public int indexOf(String word) {
+        byte[] key = word.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        int mask = hashSlots - 1;
+        int slot = hash(key) & mask;
+        for (int probes = 0; probes < hashSlots; probes++) {
+            int entry = buffer.getInt(hashTablePos + slot * 4);
+            if (entry == 0) return -1;
+            if (stringEquals(entry - 1, key)) return entry - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public List<String> synonymsOf(int id) {
+        int start = buffer.getInt(synonymStartPos + id * 4);
+        int end = buffer.getInt(synonymStartPos + (id + 1) * 4);
+        List<String> synonyms = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            synonyms.add(stringAt(buffer.getInt(adjacencyPos + i * 4)));
+        }
+        return synonyms;
+    }
+
+    // Words linked to this one in the bundled thesaurus, in either direction: its own synonyms plus every
+    // playable word that lists it as a synonym
+    public List<String> wordsRelatedTo(String word) {
+        List<String> related = new ArrayList<>();
+        int own = indexOf(word);
+        if (own >= 0) related.addAll(synonymsOf(own));
+        byte[] key = word.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        for (int id = 0; id < wordCount; id++) {
+            int start = buffer.getInt(synonymStartPos + id * 4);
+            int end = buffer.getInt(synonymStartPos + (id + 1) * 4);
+            for (int i = start; i < end; i++) {
+                if (stringEquals(buffer.getInt(adjacencyPos + i * 4), key)) {
+                    related.add(stringAt(id));
+                    break;
+                }
+            }
+        }
+        return related;
+    }
+
+    // Thesaurus-compatible lookup (null when the word is not bundled)
+    public ThesaurusResponse thesaurus(String word) {
+        int id = indexOf(word);
+        if (id < 0) return null;
+        ThesaurusResponse response = new ThesaurusResponse();
+        response.synonyms = synonymsOf(id);
+        return response;
+    }
+
+    // Random word together with its synonyms, ready to start a round offline
+    public PreparedWord randomPreparedWord(Random random) {
+        int id = random.nextInt(wordCount);
+        return new PreparedWord(stringAt(id), synonymsOf(id));
+    }
+
+    private String stringAt(int id) {
+        int start = buffer.getInt(stringOffsetsPos + id * 4);
+        int end = buffer.getInt(stringOffsetsPos + (id + 1) * 4);
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(blobPos + start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean stringEquals(int id, byte[] key) {
+        int start = buffer.getInt(stringOffsetsPos + id * 4);
+        int end = buffer.getInt(stringOffsetsPos + (id + 1) * 4);
+        if (end - start != key.length) return false;
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(blobPos + start + i) != key[i]) return false;
+        }
+        return true;
+    }
+
+    // FNV-1a, matching the generateDictionary task
+    static int hash(byte[] bytes) {
+        int h = 0x811c9dc5;
+        for (byte b : bytes) {
+            h ^= b & 0xff;
+            h *= 16777619;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.wordguessinggame;
+
+import java.util.Collections;
+import java.util.List;
+
+// Secret word that already passed synonym validation, ready to start a round
+public class PreparedWord {
+    public final String word;           // Lowercase secret word
+    public final List<String> synonyms; // Raw synonym list returned by the thesaurus
+
+    public PreparedWord(String word, List<String> synonyms) {
+        this.word = word;
+        this.synonyms = synonyms != null ? synonyms : Collections.emptyList();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import android.util.Log;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Persistent Bloom filter of words known to have no usable synonyms, checked before paying for a thesaurus
+// call. A false positive only skips one random candidate, so a small error rate is harmless.
+public class RejectedWordFilter {
+    private static final String TAG = "RejectedWordFilter";
+    private static final String FILE_NAME = "rejected_words.bloom";
+    private static final int MAGIC = 0x57474246; // "WGBF"
+
+    // Filter config defaults (~4.8KB of bits)
+    public static final int DEFAULT_CAPACITY = 4000;
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private static RejectedWordFilter instance;
+
+    private final File file;
+    private final int capacity;
+    private final double falsePositiveRate;
+    private final int bitCount;
+    private final int hashCount;
+    private long[] bits; // Guarded by this
+    private int size;    // Words added since the filter was last cleared
+    private final AtomicLong avoided = new AtomicLong();
+    private final AtomicBoolean savePending = new AtomicBoolean();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "rejected-words-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Sized for capacity words at the given false-positive rate; a null file keeps it memory-only
+    public RejectedWordFilter(File file, int capacity, double falsePositiveRate) {
+        this.file = file;
+        this.capacity = Math.max(1, capacity);
+        this.falsePositiveRate = falsePositiveRate;
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitCount = (int) Math.max(64, Math.min(optimalBits, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * ln2));
+        this.bits = new long[(bitCount + 63) >>> 6];
+        if (file != null) load();
+    }
+
+    public static synchronized RejectedWordFilter getInstance(Context context) {
+        if (instance == null) {
+            File file = new File(context.getApplicationContext().getFilesDir(), FILE_NAME);
+            instance = new RejectedWordFilter(file, DEFAULT_CAPACITY, DEFAULT_FALSE_POSITIVE_RATE);
+        }
+        return instance;
+    }
+
+    // True when the word was probably rejected before (never false for a word that was added)
+    public synchronized boolean mightContain(String word) {
+        long hash = hash(word);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    // Remember a word without usable synonyms; persisted in the background
+    public void add(String word) {
+        synchronized (this) {
+            if (size >= capacity) {
+                // Past capacity the error rate climbs quickly; start over rather than reject good words
+                Log.d(TAG, "Filter full after " + size + " words, clearing");
+                bits = new long[bits.length];
+                size = 0;
+            }
+            long hash = hash(word);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+                bits[bit >>> 6] |= 1L << bit;
+            }
+            size++;
+        }
+        if (file != null && savePending.compareAndSet(false, true)) {
+            writer.execute(this::save); // Bursts of rejections share one write
+        }
+    }
+
+    // A thesaurus call was skipped because the filter matched
+    public void recordAvoided() {
+        avoided.incrementAndGet();
+    }
+
+    public long getAvoidedCount() {
+        return avoided.get();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public String describeStats() {
+        return String.format(Locale.US, "rejected words=%d/%d bits=%d hashes=%d fpp=%.3f avoided calls=%d",
+                size(), capacity, bitCount, hashCount, falsePositiveRate, getAvoidedCount());
+    }
+
+    // 64-bit FNV-1a over the lowercased word, finished with a murmur mix; halves feed double hashing
+    static long hash(String word) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= Character.toLowerCase(word.charAt(i));
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Restore the stored filter unless it was built with different parameters
+    private synchronized void load() {
+        if (!file.exists()) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != bitCount || in.readInt() != hashCount) {
+                Log.d(TAG, "Discarding filter built with other parameters");
+                return;
+            }
+            int storedSize = in.readInt();
+            long[] stored = new long[bits.length];
+            for (int i = 0; i < stored.length; i++) stored[i] = in.readLong();
+            bits = stored;
+            size = storedSize;
+        } catch (IOException e) {
+            Log.w(TAG, "Ignoring unreadable rejected-word filter", e);
+        }
+    }
+
+    private void save() {
+        savePending.set(false);
+        long[] snapshot;
+        int snapshotSize;
+        synchronized (this) {
+            snapshot = bits.clone();
+            snapshotSize = size;
+        }
+        File tmp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(bitCount);
+            out.writeInt(hashCount);
+            out.writeInt(snapshotSize);
+            for (long word : snapshot) out.writeLong(word);
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to persist rejected-word filter", e);
+            return;
+        }
+        if (!tmp.renameTo(file)) {
+            Log.e(TAG, "Failed to replace rejected-word filter");
+        }
+    }
+
+    // Block until queued writes are on disk (tests and shutdown)
+    void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (Exception e) {
+            Log.w(TAG, "Flush interrupted", e);
+        }
+    }
+}
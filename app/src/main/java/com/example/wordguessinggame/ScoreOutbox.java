@@ -0,0 +1,328 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import android.util.Log;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+// Durable write-behind queue for leaderboard posts: append locally, drain to Dreamlo in the background
+public class ScoreOutbox {
+    private static final String TAG = "ScoreOutbox";
+    private static final String FILE_NAME = "score_outbox.log";
+    private static final short RECORD_MAGIC = 0x5343; // "SC"
+
+    // Drain timing
+    private static final long BATCH_DELAY_MS = 2_000;
+    private static final long INITIAL_BACKOFF_MS = 5_000;
+    private static final long MAX_BACKOFF_MS = 5 * 60_000;
+
+    private static ScoreOutbox instance;
+
+    private final File file;
+    private final DreamloLeaderboardService service;
+    private final String privateCode;
+    private final boolean autoFlush;
+    private final LinkedHashMap<String, PendingScore> pending = new LinkedHashMap<>();
+    // Owns the log file: replay, appends, compaction and network posts all run here
+    private final ScheduledExecutorService drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "score-outbox");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> scheduledFlush;
+    private long backoffMillis = INITIAL_BACKOFF_MS;
+
+    // Metrics
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong posted = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    // Best score waiting to be posted for one player
+    public static class PendingScore {
+        public final String name;
+        public final int score;
+        public final long seconds;
+
+        PendingScore(String name, int score, long seconds) {
+            this.name = name;
+            this.score = score;
+            this.seconds = seconds;
+        }
+
+        // Higher score wins; equal scores keep the faster time
+        boolean beats(PendingScore other) {
+            return other == null || score > other.score || (score == other.score && seconds < other.seconds);
+        }
+    }
+
+    public ScoreOutbox(File file, DreamloLeaderboardService service, String privateCode) {
+        this(file, service, privateCode, true);
+    }
+
+    // autoFlush = false leaves posting to explicit flushNow() calls (tests)
+    ScoreOutbox(File file, DreamloLeaderboardService service, String privateCode, boolean autoFlush) {
+        this.file = file;
+        this.service = service;
+        this.privateCode = privateCode;
+        this.autoFlush = autoFlush;
+        drainer.execute(this::replay);
+    }
+
+    public static synchronized ScoreOutbox getInstance(Context context) {
+        if (instance == null) {
+            File file = new File(context.getApplicationContext().getFilesDir(), FILE_NAME);
+            instance = new ScoreOutbox(file, NetworkModule.getInstance().getDreamloService(),
+                    BuildConfig.Private_Code);
+        }
+        return instance;
+    }
+
+    // Queue a score: the drainer appends it to the log, the network post happens later
+    public void submit(String name, int score, long seconds) {
+        PendingScore entry = new PendingScore(name, score, seconds);
+        submitted.incrementAndGet();
+        drainer.execute(() -> append(entry));
+        synchronized (this) {
+            merge(entry);
+            backoffMillis = INITIAL_BACKOFF_MS;
+        }
+        scheduleFlush(BATCH_DELAY_MS);
+    }
+
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    public long getPostedCount() {
+        return posted.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushes.get();
+    }
+
+    public long getLastFlushMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastFlushNanos.get());
+    }
+
+    public long getAverageFlushMillis() {
+        long count = flushes.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalFlushNanos.get() / count);
+    }
+
+    public String describeStats() {
+        return String.format(Locale.US, "depth=%d submitted=%d posted=%d failedFlushes=%d lastFlush=%dms avgFlush=%dms",
+                getQueueDepth(), submitted.get(), getPostedCount(), getFailedFlushCount(),
+                getLastFlushMillis(), getAverageFlushMillis());
+    }
+
+    // Run a flush on the drainer after delayMillis unless one is already scheduled sooner
+    public synchronized void scheduleFlush(long delayMillis) {
+        if (!autoFlush || pending.isEmpty()) return;
+        if (scheduledFlush != null && !scheduledFlush.isDone()
+                && scheduledFlush.getDelay(TimeUnit.MILLISECONDS) <= delayMillis) {
+            return;
+        }
+        if (scheduledFlush != null) scheduledFlush.cancel(false);
+        scheduledFlush = drainer.schedule(this::flushAndReschedule, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushAndReschedule() {
+        synchronized (this) {
+            scheduledFlush = null;
+        }
+        if (flushPending()) {
+            scheduleFlush(BATCH_DELAY_MS); // Picks up scores submitted during the flush
+            return;
+        }
+        long delay;
+        synchronized (this) {
+            delay = backoffMillis;
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MS);
+        }
+        Log.w(TAG, "Flush failed, retrying in " + delay + "ms");
+        scheduleFlush(delay);
+    }
+
+    // Post every pending score in one batch on the drainer and wait; returns false if any post failed
+    public boolean flushNow() {
+        try {
+            return drainer.submit(this::flushPending).get();
+        } catch (InterruptedException | ExecutionException e) {
+            Log.w(TAG, "Flush interrupted", e);
+            return false;
+        }
+    }
+
+    // Block until the queued replay and appends are on disk (never call it on the drainer)
+    void awaitWrites() {
+        try {
+            drainer.submit(() -> { }).get();
+        } catch (InterruptedException | ExecutionException e) {
+            Log.w(TAG, "Wait for outbox writes interrupted", e);
+        }
+    }
+
+    private boolean flushPending() {
+        List<PendingScore> batch;
+        synchronized (this) {
+            batch = new ArrayList<>(pending.values());
+        }
+        if (batch.isEmpty()) return true;
+
+        long start = System.nanoTime();
+        boolean ok = true;
+        for (PendingScore entry : batch) {
+            try {
+                Response<ResponseBody> response =
+                        service.addScore(privateCode, entry.name, entry.score, entry.seconds).execute();
+                if (response.body() != null) response.body().close();
+                if (!response.isSuccessful()) {
+                    ok = false;
+                    break;
+                }
+                posted.incrementAndGet();
+                acknowledge(entry);
+            } catch (IOException e) {
+                Log.w(TAG, "Posting score failed", e);
+                ok = false;
+                break;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        lastFlushNanos.set(elapsed);
+        totalFlushNanos.addAndGet(elapsed);
+        flushes.incrementAndGet();
+        if (!ok) failedFlushes.incrementAndGet();
+
+        List<PendingScore> remaining;
+        synchronized (this) {
+            remaining = new ArrayList<>(pending.values());
+            if (ok) backoffMillis = INITIAL_BACKOFF_MS;
+        }
+        // Outside the lock: submit() only queues its append behind this on the drainer
+        rewrite(remaining);
+        return ok;
+    }
+
+    // Drop a posted entry unless a better one for the same player arrived meanwhile
+    private synchronized void acknowledge(PendingScore entry) {
+        if (pending.get(entry.name) == entry) {
+            pending.remove(entry.name);
+        }
+    }
+
+    private void merge(PendingScore entry) {
+        PendingScore current = pending.get(entry.name);
+        if (entry.beats(current)) {
+            pending.put(entry.name, entry);
+        }
+    }
+
+    private void append(PendingScore entry) {
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(encode(entry));
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to persist score for " + entry.name, e);
+        }
+    }
+
+    // Rebuild pending posts from the log, truncating a torn or corrupt tail, then start draining them
+    private void replay() {
+        if (!file.exists()) return;
+        List<PendingScore> entries = new ArrayList<>();
+        try {
+            byte[] data = Files.readAllBytes(file.toPath());
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            int offset = 0;
+            while (offset < data.length) {
+                PendingScore entry = decode(in, data, offset);
+                if (entry == null) {
+                    Log.w(TAG, "Truncating outbox at " + offset);
+                    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                        raf.setLength(offset);
+                    }
+                    break;
+                }
+                entries.add(entry);
+                offset = data.length - in.available();
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to replay outbox", e);
+        }
+        synchronized (this) {
+            for (PendingScore entry : entries) merge(entry);
+        }
+        scheduleFlush(0);
+    }
+
+    // Compact the log down to the posts still pending
+    private void rewrite(List<PendingScore> remaining) {
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            for (PendingScore entry : remaining) {
+                out.write(encode(entry));
+            }
+            out.getFD().sync();
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to compact outbox", e);
+            return;
+        }
+        if (!tmp.renameTo(file)) {
+            Log.e(TAG, "Failed to replace outbox log");
+        }
+    }
+
+    // Record: magic, name, score, seconds, CRC32 of everything before it
+    private static byte[] encode(PendingScore entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(RECORD_MAGIC);
+        out.writeUTF(entry.name);
+        out.writeInt(entry.score);
+        out.writeLong(entry.seconds);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    private static PendingScore decode(DataInputStream in, byte[] data, int offset) {
+        try {
+            if (in.readShort() != RECORD_MAGIC) return null;
+            String name = in.readUTF();
+            int score = in.readInt();
+            long seconds = in.readLong();
+            int end = data.length - in.available();
+            CRC32 crc = new CRC32();
+            crc.update(data, offset, end - offset);
+            if (in.readInt() != (int) crc.getValue()) return null;
+            return new PendingScore(name, score, seconds);
+        } catch (IOException e) {
+            return null; // Torn record
+        }
+    }
+}
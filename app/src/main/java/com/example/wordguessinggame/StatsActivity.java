@@ -0,0 +1,22 @@
+package com.example.wordguessinggame;
+
+import android.os.Bundle;
+import android.widget.TextView;
+import androidx.appcompat.app.AppCompatActivity;
+
+// Personal stats read from the game history's running aggregates (no log scan)
+public class StatsActivity extends AppCompatActivity {
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_stats);
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        TextView tvStats = findViewById(R.id.tvStats);
+        GameHistory.getInstance(this).loadStats(stats -> runOnUiThread(() -> tvStats.setText(stats.describe())));
+    }
+}
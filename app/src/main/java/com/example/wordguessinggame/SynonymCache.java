@@ -0,0 +1,216 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import android.util.Log;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+// Two-tier thesaurus cache: in-memory LRU in front of an append-only file that survives restarts
+public class SynonymCache {
+    private static final String TAG = "SynonymCache";
+    private static final String FILE_NAME = "synonyms.bin";
+
+    // Cache config defaults
+    public static final int DEFAULT_MEMORY_ENTRIES = 64;
+    public static final int DEFAULT_DISK_ENTRIES = 2000;
+
+    private static SynonymCache instance;
+
+    private final File file;
+    private final int maxDiskEntries;
+    private final LinkedHashMap<String, List<String>> memory;
+    private LinkedHashMap<String, Long> diskIndex; // Word -> record offset, oldest first
+    private final ExecutorService diskWriter = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "synonym-cache-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // A null file keeps the cache memory-only
+    public SynonymCache(File file, int maxMemoryEntries, int maxDiskEntries) {
+        this.file = file;
+        this.maxDiskEntries = maxDiskEntries;
+        this.memory = new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+                return size() > maxMemoryEntries;
+            }
+        };
+    }
+
+    public static synchronized SynonymCache getInstance(Context context) {
+        if (instance == null) {
+            File file = new File(context.getApplicationContext().getCacheDir(), FILE_NAME);
+            instance = new SynonymCache(file, DEFAULT_MEMORY_ENTRIES, DEFAULT_DISK_ENTRIES);
+        }
+        return instance;
+    }
+
+    // Look up cached synonyms (null on a miss); the list is the caller's own copy
+    public synchronized ThesaurusResponse get(String word) {
+        String key = key(word);
+        List<String> synonyms = memory.get(key);
+        if (synonyms == null && file != null) {
+            synonyms = readFromDisk(key);
+            if (synonyms != null) memory.put(key, synonyms);
+        }
+        return synonyms != null ? toResponse(synonyms) : null;
+    }
+
+    // Same lookup on the writer thread, for callers that must not touch the disk (queued behind pending writes)
+    public void getAsync(String word, Consumer<ThesaurusResponse> callback) {
+        diskWriter.execute(() -> callback.accept(get(word)));
+    }
+
+    // Store a thesaurus response; the disk write happens in the background
+    public synchronized void put(String word, ThesaurusResponse response) {
+        if (response == null || response.synonyms == null) return;
+        String key = key(word);
+        List<String> synonyms = new ArrayList<>(response.synonyms);
+        memory.put(key, synonyms);
+        if (file != null) {
+            diskWriter.execute(() -> appendToDisk(key, synonyms));
+        }
+    }
+
+    private static String key(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Callers filter and reorder the list in place, so they never get the cached one
+    private static ThesaurusResponse toResponse(List<String> synonyms) {
+        ThesaurusResponse response = new ThesaurusResponse();
+        response.synonyms = new ArrayList<>(synonyms);
+        return response;
+    }
+
+    // Build the offset index on first use, dropping a torn record at the tail
+    private void loadIndex() {
+        if (diskIndex != null) return;
+        diskIndex = new LinkedHashMap<>();
+        if (!file.exists()) return;
+
+        try {
+            byte[] data = Files.readAllBytes(file.toPath());
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            long offset = 0;
+            while (offset < data.length) {
+                try {
+                    String word = in.readUTF();
+                    int count = in.readUnsignedShort();
+                    for (int i = 0; i < count; i++) in.readUTF();
+                    diskIndex.remove(word);
+                    diskIndex.put(word, offset);
+                    offset = data.length - in.available();
+                } catch (EOFException e) {
+                    Log.w(TAG, "Truncating torn record at " + offset);
+                    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                        raf.setLength(offset);
+                    }
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to load synonym cache", e);
+            diskIndex.clear();
+        }
+    }
+
+    private List<String> readFromDisk(String key) {
+        loadIndex();
+        Long offset = diskIndex.get(key);
+        if (offset == null) return null;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(offset);
+            raf.readUTF();
+            int count = raf.readUnsignedShort();
+            List<String> synonyms = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) synonyms.add(raf.readUTF());
+            return synonyms;
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to read cached synonyms for " + key, e);
+            return null;
+        }
+    }
+
+    private synchronized void appendToDisk(String key, List<String> synonyms) {
+        loadIndex();
+        if (diskIndex.containsKey(key)) return; // Synonyms never change
+
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            long offset = out.getChannel().position();
+            out.write(encode(key, synonyms));
+            diskIndex.put(key, offset);
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to persist synonyms for " + key, e);
+            return;
+        }
+        if (diskIndex.size() > maxDiskEntries) {
+            compact();
+        }
+    }
+
+    // Evict the oldest entries, keeping three quarters of the disk budget
+    private void compact() {
+        int evict = diskIndex.size() - maxDiskEntries * 3 / 4;
+        Iterator<String> it = diskIndex.keySet().iterator();
+        for (int i = 0; i < evict && it.hasNext(); i++) {
+            it.next();
+            it.remove();
+        }
+
+        File tmp = new File(file.getPath() + ".tmp");
+        LinkedHashMap<String, Long> compacted = new LinkedHashMap<>();
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            long offset = 0;
+            for (String word : diskIndex.keySet()) {
+                List<String> synonyms = readFromDisk(word);
+                if (synonyms == null) continue;
+                byte[] record = encode(word, synonyms);
+                out.write(record);
+                compacted.put(word, offset);
+                offset += record.length;
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to compact synonym cache", e);
+            return;
+        }
+        if (tmp.renameTo(file)) {
+            diskIndex = compacted;
+        }
+    }
+
+    private static byte[] encode(String word, List<String> synonyms) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(word);
+            int count = Math.min(synonyms.size(), 0xFFFF);
+            out.writeShort(count);
+            for (int i = 0; i < count; i++) {
+                String synonym = synonyms.get(i);
+                out.writeUTF(synonym != null ? synonym : "");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // Not thrown by in-memory streams
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.wordguessinggame;
+
+import java.util.List;
+
+// Synonym validation shared by word acquisition and the tip feature.
+// Single-pass character scanning; dedupe and ranking each allocate one int[] per call.
+public final class SynonymFilter {
+
+    // Hint ranking weights
+    private static final int BASE_QUALITY = 100;
+    private static final int MULTI_WORD_PENALTY = 30;
+    private static final int PUNCTUATION_PENALTY = 10;
+
+    private SynonymFilter() {
+    }
+
+    // Verify synonym quality (stops at the first usable synonym)
+    public static boolean hasValidSynonyms(ThesaurusResponse response, String secretWord) {
+        if (response == null || response.synonyms == null) return false;
+        List<String> synonyms = response.synonyms;
+        for (int i = 0, n = synonyms.size(); i < n; i++) {
+            if (isValidSynonym(synonyms.get(i), secretWord)) return true;
+        }
+        return false;
+    }
+
+    // Same rules as ^[a-zA-Z-']+(\s+[a-zA-Z-']+)*$ plus "not the secret word itself"
+    public static boolean isValidSynonym(String synonym, String secretWord) {
+        if (synonym == null) return false;
+        int n = synonym.length();
+        if (n == 0 || !isWordChar(synonym.charAt(0)) || !isWordChar(synonym.charAt(n - 1))) {
+            return false;
+        }
+        for (int i = 1; i < n - 1; i++) {
+            char c = synonym.charAt(i);
+            if (!isWordChar(c) && !isWhitespace(c)) return false;
+        }
+        return !synonym.equalsIgnoreCase(secretWord);
+    }
+
+    // Number of valid, distinct (case-insensitive) synonyms
+    public static int countValid(List<String> synonyms, String secretWord) {
+        int n = synonyms.size();
+        int[] seen = newIndexTable(n);
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            String synonym = synonyms.get(i);
+            if (isValidSynonym(synonym, secretWord) && addIfAbsent(seen, synonyms, synonym, i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Move valid, distinct synonyms to the front of the list in place; returns how many there are
+    public static int compactValid(List<String> synonyms, String secretWord) {
+        int n = synonyms.size();
+        int[] seen = newIndexTable(n);
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            String synonym = synonyms.get(i);
+            // Kept entries never move again, so the table can point at their final slot
+            if (!isValidSynonym(synonym, secretWord) || !addIfAbsent(seen, synonyms, synonym, kept)) {
+                continue;
+            }
+            if (kept != i) {
+                synonyms.set(i, synonyms.get(kept));
+                synonyms.set(kept, synonym);
+            }
+            kept++;
+        }
+        return kept;
+    }
+
+    // Order the first count synonyms best hint first (in place); returns how many don't give the word away.
+    // Each synonym is scored once up front, so the sort never repeats the substring scans.
+    public static int rankForHints(List<String> synonyms, int count, String secretWord) {
+        int[] scores = new int[count];
+        for (int i = 0; i < count; i++) scores[i] = hintQuality(synonyms.get(i), secretWord);
+        // Insertion sort: lists are short and this avoids the array copy Collections.sort makes
+        int usable = 0;
+        for (int i = 0; i < count; i++) {
+            String current = synonyms.get(i);
+            int quality = scores[i];
+            if (quality > 0) usable++;
+            int j = i - 1;
+            while (j >= 0 && scores[j] < quality) {
+                synonyms.set(j + 1, synonyms.get(j));
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            synonyms.set(j + 1, current);
+            scores[j + 1] = quality;
+        }
+        return usable;
+    }
+
+    // Higher is a better hint; 0 when the synonym contains the secret word or vice versa
+    public static int hintQuality(String synonym, String secretWord) {
+        if (leaksSecret(synonym, secretWord)) return 0;
+        int quality = BASE_QUALITY - Math.abs(synonym.length() - secretWord.length());
+        for (int i = 0, n = synonym.length(); i < n; i++) {
+            char c = synonym.charAt(i);
+            if (isWhitespace(c)) {
+                quality -= MULTI_WORD_PENALTY;
+                break;
+            }
+            if (c == '-' || c == '\'') quality -= PUNCTUATION_PENALTY;
+        }
+        return Math.max(1, quality);
+    }
+
+    private static boolean leaksSecret(String synonym, String secretWord) {
+        return indexOfIgnoreCase(synonym, secretWord) >= 0 || indexOfIgnoreCase(secretWord, synonym) >= 0;
+    }
+
+    private static int indexOfIgnoreCase(String haystack, String needle) {
+        int max = haystack.length() - needle.length();
+        if (needle.isEmpty()) return -1;
+        for (int i = 0; i <= max; i++) {
+            if (haystack.regionMatches(true, i, needle, 0, needle.length())) return i;
+        }
+        return -1;
+    }
+
+    // Open-addressed set of list positions keyed by a case-insensitive hash; 0 marks an empty slot
+    private static int[] newIndexTable(int size) {
+        return new int[Integer.highestOneBit(Math.max(size, 1)) << 2];
+    }
+
+    // Records position for synonym unless an equal (ignoring case) entry is already in the table
+    private static boolean addIfAbsent(int[] table, List<String> synonyms, String synonym, int position) {
+        int mask = table.length - 1;
+        for (int slot = hashIgnoreCase(synonym) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                table[slot] = position + 1;
+                return true;
+            }
+            if (synonyms.get(entry - 1).equalsIgnoreCase(synonym)) return false;
+        }
+    }
+
+    // Valid synonyms are ASCII, so folding A-Z is enough to agree with equalsIgnoreCase
+    private static int hashIgnoreCase(String s) {
+        int h = 0;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            h = 31 * h + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '\'';
+    }
+
+    // Regex \s: space, tab, newline, vertical tab, form feed, carriage return
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
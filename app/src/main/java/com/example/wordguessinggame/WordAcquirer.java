@@ -0,0 +1,215 @@
+package com.example.wordguessinggame;
+
+import android.util.Log;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import retrofit2.Call;
+import retrofit2.Response;
+
+// Finds a random word with usable synonyms, either one candidate at a time or speculatively in parallel
+public class WordAcquirer {
+    private static final String TAG = "WordAcquirer";
+
+    // Acquisition config defaults
+    public static final int DEFAULT_FAN_OUT = 3;
+    public static final long DEFAULT_DEADLINE_MS = 10_000;
+    public static final int MAX_CANDIDATES = 6; // Same budget as the original 1 + 5 retries
+
+    private final ApiService apiService;
+    private final SynonymCache synonymCache;
+    private final OfflineDictionary dictionary; // Optional local synonym source
+    private final RejectedWordFilter rejectedWords; // Optional; words already known to be unusable
+    private final int fanOut;
+    private final long deadlineMillis;
+    private final ExecutorService executor;
+
+    // fanOut of 1 keeps the original serial retry loop
+    public WordAcquirer(ApiService apiService, SynonymCache synonymCache, OfflineDictionary dictionary,
+                        RejectedWordFilter rejectedWords, int fanOut, long deadlineMillis) {
+        this.apiService = apiService;
+        this.synonymCache = synonymCache;
+        this.dictionary = dictionary;
+        this.rejectedWords = rejectedWords;
+        this.fanOut = Math.max(1, Math.min(fanOut, MAX_CANDIDATES));
+        this.deadlineMillis = deadlineMillis;
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "word-candidate");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public int getFanOut() {
+        return fanOut;
+    }
+
+    // Returns a validated word, or null when the API fails or no candidate qualifies in time
+    public PreparedWord acquire() {
+        return fanOut == 1 ? acquireSerially() : acquireInParallel();
+    }
+
+    private static PreparedWord report(PreparedWord word, int candidates) {
+        if (word != null) {
+            ApiMetrics.getInstance().recordWordAccepted(candidates);
+        } else {
+            ApiMetrics.getInstance().recordAcquisitionFailed(candidates);
+        }
+        return word;
+    }
+
+    // Original behaviour: fetch and validate candidates one after another
+    private PreparedWord acquireSerially() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        int attempt = 0;
+        while (attempt < MAX_CANDIDATES && System.nanoTime() < deadline) {
+            attempt++;
+            try {
+                Candidate candidate = fetchCandidate(null);
+                if (candidate.failed) return report(null, attempt);
+                if (candidate.word != null) return report(candidate.word, attempt);
+                Log.d(TAG, "Rejected word without synonyms (" + attempt + "/" + MAX_CANDIDATES + ")");
+            } catch (IOException e) {
+                Log.e(TAG, "Word fetch failed", e);
+                return report(null, attempt);
+            }
+        }
+        return report(null, attempt);
+    }
+
+    // Keep fanOut candidates in flight; the first one with valid synonyms wins and the rest are cancelled
+    private PreparedWord acquireInParallel() {
+        Race race = new Race();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        synchronized (race) {
+            for (int i = 0; i < fanOut; i++) {
+                launch(race);
+            }
+            while (race.winner == null && race.finished.get() < race.launched.get()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) break;
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(race, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        race.cancelAll();
+        synchronized (race) {
+            return report(race.winner, race.launched.get());
+        }
+    }
+
+    private void launch(Race race) {
+        race.launched.incrementAndGet();
+        executor.execute(() -> {
+            Candidate candidate;
+            try {
+                candidate = race.done.get() ? Candidate.REJECTED : fetchCandidate(race);
+            } catch (IOException e) {
+                candidate = Candidate.FAILED;
+            }
+            synchronized (race) {
+                race.finished.incrementAndGet();
+                if (candidate.word != null && race.winner == null) {
+                    race.winner = candidate.word;
+                } else if (race.winner == null && !candidate.failed
+                        && race.launched.get() < MAX_CANDIDATES && !race.done.get()) {
+                    // Replace a rejected candidate while budget remains
+                    launch(race);
+                }
+                race.notifyAll();
+            }
+        });
+    }
+
+    // Fetch one random word and validate its synonyms (race is null when acquiring serially)
+    private Candidate fetchCandidate(Race race) throws IOException {
+        Call<RandomWordResponse> wordCall = apiService.getRandomWord();
+        Response<RandomWordResponse> wordResponse = execute(wordCall, race);
+        if (!wordResponse.isSuccessful() || wordResponse.body() == null) {
+            return Candidate.FAILED;
+        }
+        String word = wordResponse.body().getWord().toLowerCase(Locale.ROOT);
+        if (word.isEmpty()) return Candidate.REJECTED;
+
+        ThesaurusResponse thesaurus = synonymCache.get(word);
+        if (thesaurus == null && dictionary != null) {
+            thesaurus = dictionary.thesaurus(word);
+        }
+        if (thesaurus == null) {
+            if (rejectedWords != null && rejectedWords.mightContain(word)) {
+                rejectedWords.recordAvoided(); // Seen before without usable synonyms
+                return Candidate.REJECTED;
+            }
+            Response<ThesaurusResponse> synonymResponse = execute(apiService.getSynonyms(word), race);
+            // 429/5xx says nothing about the word, but more candidates would only hit the same wall
+            if (!synonymResponse.isSuccessful()) return Candidate.FAILED;
+            thesaurus = synonymResponse.body();
+            boolean usable = SynonymFilter.hasValidSynonyms(thesaurus, word);
+            if (usable || rejectedWords == null) {
+                synonymCache.put(word, thesaurus);
+            } else {
+                rejectedWords.add(word); // A few bits instead of a cache slot
+            }
+            return usable ? new Candidate(new PreparedWord(word, thesaurus.synonyms), false) : Candidate.REJECTED;
+        }
+        if (SynonymFilter.hasValidSynonyms(thesaurus, word)) {
+            return new Candidate(new PreparedWord(word, thesaurus.synonyms), false);
+        }
+        return Candidate.REJECTED;
+    }
+
+    // Track the call so a losing candidate can be cancelled mid-flight. The race may have ended between two
+    // calls, after cancelAll() swept the set, so check again once the call is registered.
+    private static <T> Response<T> execute(Call<T> call, Race race) throws IOException {
+        if (race == null) return call.execute();
+        race.calls.add(call);
+        try {
+            if (race.done.get()) call.cancel(); // Fails fast instead of reaching the network
+            return call.execute();
+        } finally {
+            race.calls.remove(call);
+        }
+    }
+
+    // Outcome of validating a single candidate
+    private static class Candidate {
+        static final Candidate REJECTED = new Candidate(null, false);
+        static final Candidate FAILED = new Candidate(null, true);
+
+        final PreparedWord word;
+        final boolean failed;
+
+        Candidate(PreparedWord word, boolean failed) {
+            this.word = word;
+            this.failed = failed;
+        }
+    }
+
+    // Shared state for one parallel acquisition
+    private static class Race {
+        final Set<Call<?>> calls = ConcurrentHashMap.newKeySet();
+        final AtomicInteger launched = new AtomicInteger();
+        final AtomicInteger finished = new AtomicInteger();
+        final AtomicBoolean done = new AtomicBoolean();
+        PreparedWord winner;
+
+        void cancelAll() {
+            done.set(true);
+            for (Call<?> call : calls) {
+                call.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.wordguessinggame;
+
+// Difficulty score in [0, 1] from a word's length, letter rarity, usable synonym count and past solve rate
+public final class WordDifficulty {
+    // Feature weights (sum to 1)
+    static final float LENGTH_WEIGHT = 0.30f;
+    static final float RARITY_WEIGHT = 0.25f;
+    static final float SCARCITY_WEIGHT = 0.20f;
+    static final float FAILURE_WEIGHT = 0.25f;
+
+    private static final int MAX_SYNONYMS = 8;  // More than this is no easier
+    private static final float MIN_BITS = 3.0f; // Letters as common as 'e'...
+    private static final float MAX_BITS = 7.0f; // ...up to a word full of 'k', 'v' and the like
+
+    // English letter frequencies in percent, a..z
+    private static final float[] LETTER_FREQUENCY = {
+            8.2f, 1.5f, 2.8f, 4.3f, 12.7f, 2.2f, 2.0f, 6.1f, 7.0f, 0.15f, 0.77f, 4.0f, 2.4f,
+            6.7f, 7.5f, 1.9f, 0.095f, 6.0f, 6.3f, 9.1f, 2.8f, 0.98f, 2.4f, 0.15f, 2.0f, 0.074f
+    };
+    private static final float[] LETTER_BITS = new float[LETTER_FREQUENCY.length];
+
+    static {
+        for (int i = 0; i < LETTER_FREQUENCY.length; i++) {
+            LETTER_BITS[i] = (float) (-Math.log(LETTER_FREQUENCY[i] / 100.0) / Math.log(2));
+        }
+    }
+
+    private WordDifficulty() {
+    }
+
+    public static float score(String word, int validSynonyms, int played, int solved) {
+        float length = clamp((word.length() - 3) / 9f);
+        float scarcity = 1f - Math.min(validSynonyms, MAX_SYNONYMS) / (float) MAX_SYNONYMS;
+        float solveRate = (solved + 1f) / (played + 2f); // Unplayed words count as a coin flip
+        return LENGTH_WEIGHT * length
+                + RARITY_WEIGHT * rarity(word)
+                + SCARCITY_WEIGHT * scarcity
+                + FAILURE_WEIGHT * (1f - solveRate);
+    }
+
+    // Mean information content of the word's letters, scaled to [0, 1]
+    static float rarity(String word) {
+        float bits = 0;
+        int letters = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int index = word.charAt(i) - 'a';
+            if (index >= 0 && index < LETTER_BITS.length) {
+                bits += LETTER_BITS[index];
+                letters++;
+            }
+        }
+        return letters == 0 ? 0 : clamp((bits / letters - MIN_BITS) / (MAX_BITS - MIN_BITS));
+    }
+
+    private static float clamp(float value) {
+        return Math.max(0f, Math.min(1f, value));
+    }
+}
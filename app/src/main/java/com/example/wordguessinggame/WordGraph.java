@@ -0,0 +1,109 @@
+package com.example.wordguessinggame;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+// Guess vocabulary as a minimized DAWG, read in place from the memory-mapped asset built by generateWordGraph.
+// Each node is a run of int edges: child run << 7 | terminal << 6 | last-in-run << 5 | letter. Shared
+// suffixes are stored once, so the graph is a few bytes per word, and a lookup walks one edge run per letter.
+public class WordGraph {
+    private static final int MAGIC = 0x57475731; // "WGW1"
+    private static final int HEADER_INTS = 5;
+    private static final int LETTER_MASK = 0x1f;
+    private static final int LAST = 1 << 5;
+    private static final int TERMINAL = 1 << 6;
+    private static final int CHILD_SHIFT = 7;
+    private static final int NOT_FOUND = -1;
+
+    private final ByteBuffer buffer;
+    private final int wordCount;
+    private final int edgeCount;
+    private final int root;
+    private final char[] path = new char[64]; // Completion scratch; words are far shorter
+
+    public WordGraph(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a word graph file");
+        }
+        wordCount = buffer.getInt(8);
+        edgeCount = buffer.getInt(12);
+        root = buffer.getInt(16);
+        if (buffer.capacity() < (HEADER_INTS + edgeCount) * 4) {
+            throw new IllegalArgumentException("Truncated word graph");
+        }
+    }
+
+    public int size() {
+        return wordCount;
+    }
+
+    public int sizeInBytes() {
+        return (HEADER_INTS + edgeCount) * 4;
+    }
+
+    // Case-insensitive membership; anything but letters a-z is not a word. Allocation-free.
+    public boolean contains(CharSequence word) {
+        int length = word.length();
+        if (length == 0) return false;
+        int run = root;
+        int edge = 0;
+        for (int i = 0; i < length; i++) {
+            if (run == 0) return false;
+            int index = find(run, WordProfile.letterIndex(word.charAt(i)));
+            if (index == NOT_FOUND) return false;
+            edge = edgeAt(index);
+            run = edge >>> CHILD_SHIFT;
+        }
+        return (edge & TERMINAL) != 0;
+    }
+
+    // Up to limit words that extend the prefix by at least one letter, in alphabetical order (returns the count)
+    public synchronized int complete(CharSequence prefix, int limit, List<String> out) {
+        int length = prefix.length();
+        if (length == 0 || length >= path.length) return 0;
+        int run = root;
+        for (int i = 0; i < length; i++) {
+            int letter = WordProfile.letterIndex(prefix.charAt(i));
+            if (run == 0) return 0;
+            int index = find(run, letter);
+            if (index == NOT_FOUND) return 0;
+            path[i] = (char) ('a' + letter);
+            run = edgeAt(index) >>> CHILD_SHIFT;
+        }
+        return run == 0 ? 0 : collect(run, length, limit, out);
+    }
+
+    // Depth-first over the runs below the prefix, emitting a word at every terminal edge
+    private int collect(int run, int depth, int limit, List<String> out) {
+        if (depth >= path.length) return 0;
+        int added = 0;
+        for (int index = run; added < limit; index++) {
+            int edge = edgeAt(index);
+            path[depth] = (char) ('a' + (edge & LETTER_MASK));
+            if ((edge & TERMINAL) != 0) {
+                out.add(new String(path, 0, depth + 1));
+                added++;
+            }
+            int child = edge >>> CHILD_SHIFT;
+            if (child != 0 && added < limit) added += collect(child, depth + 1, limit - added, out);
+            if ((edge & LAST) != 0) break;
+        }
+        return added;
+    }
+
+    // Edge index for a letter within a run (runs are sorted and at most 26 long), or -1
+    private int find(int run, int letter) {
+        if (letter < 0) return NOT_FOUND;
+        for (int index = run; ; index++) {
+            int edge = edgeAt(index);
+            int edgeLetter = edge & LETTER_MASK;
+            if (edgeLetter == letter) return index;
+            if (edgeLetter > letter || (edge & LAST) != 0) return NOT_FOUND;
+        }
+    }
+
+    private int edgeAt(int index) {
+        return buffer.getInt((HEADER_INTS + index) * 4);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.wordguessinggame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// Writes the words.dawg layout WordGraph reads. generateWordGraph runs it at build time (compiled into
+// buildSrc straight from these sources) and tests build their graphs with it, so there is one encoder.
+public final class WordGraphBuilder {
+    private static final int MAGIC = 0x57475731; // "WGW1"
+    private static final int VERSION = 1;
+    private static final int MAX_EDGES = 1 << 25; // Child run index must fit above the 7 flag/letter bits
+
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        boolean terminal; // A word ends on the edge leading into this node
+    }
+
+    private WordGraphBuilder() {
+    }
+
+    // Words must be lowercase a-z; duplicates are ignored
+    public static byte[] build(Collection<String> words) {
+        TreeSet<String> sorted = new TreeSet<>(words);
+
+        // Plain trie first
+        Node root = new Node();
+        for (String word : sorted) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (c < 'a' || c > 'z') throw new IllegalArgumentException("Not a lowercase word: " + word);
+                node = node.children.computeIfAbsent(c, k -> new Node());
+            }
+            node.terminal = true;
+        }
+        minimize(root, new HashMap<>(), new IdentityHashMap<>());
+
+        // Each node with children becomes a run of edges; slot 0 stays empty so a child index of 0 means leaf.
+        // Edge: child run index << 7 | terminal << 6 | last edge of its run << 5 | letter (0-25)
+        Map<Node, Integer> runStart = new IdentityHashMap<>();
+        List<Node> order = new ArrayList<>();
+        int edgeCount = place(root, 1, runStart, order);
+        if (edgeCount >= MAX_EDGES) throw new IllegalStateException("Word graph too large: " + edgeCount + " edges");
+
+        ByteBuffer out = ByteBuffer.allocate((5 + edgeCount) * 4);
+        out.putInt(MAGIC).putInt(VERSION).putInt(sorted.size()).putInt(edgeCount)
+                .putInt(runStart.getOrDefault(root, 0));
+        out.putInt(0);
+        for (Node node : order) {
+            int index = runStart.get(node);
+            int last = index + node.children.size() - 1;
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                out.putInt(runStart.getOrDefault(child, 0) << 7 | (child.terminal ? 1 << 6 : 0)
+                        | (index == last ? 1 << 5 : 0) | (entry.getKey() - 'a'));
+                index++;
+            }
+        }
+        return out.array();
+    }
+
+    // Bottom-up: nodes with the same terminal flag and the same edges (letter, merged target) merge
+    private static Node minimize(Node node, Map<List<Object>, Node> canonical, Map<Node, Integer> ids) {
+        List<Object> signature = new ArrayList<>();
+        signature.add(node.terminal);
+        for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+            Node child = minimize(entry.getValue(), canonical, ids);
+            entry.setValue(child);
+            signature.add(entry.getKey());
+            signature.add(ids.get(child));
+        }
+        return canonical.computeIfAbsent(signature, k -> {
+            ids.put(node, ids.size());
+            return node;
+        });
+    }
+
+    // Depth-first, so runs are written in the order they are placed
+    private static int place(Node node, int next, Map<Node, Integer> runStart, List<Node> order) {
+        if (node.children.isEmpty() || runStart.containsKey(node)) return next;
+        runStart.put(node, next);
+        order.add(node);
+        next += node.children.size();
+        for (Node child : node.children.values()) next = place(child, next, runStart, order);
+        return next;
+    }
+}
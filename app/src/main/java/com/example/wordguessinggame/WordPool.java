@@ -0,0 +1,167 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import android.util.Log;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Offline dictionary words scored once by difficulty and indexed by band, so rounds can ramp up in
+// difficulty without any network calls. Per-word solve counts persist and feed back into the score.
+public class WordPool {
+    private static final String TAG = "WordPool";
+    private static final String FILE_NAME = "word_stats.bin";
+    private static final int MAGIC = 0x57475753; // "WGWS"
+
+    // Ramp: start easy, one band harder every ROUNDS_PER_BAND rounds won in a row
+    public static final int START_BAND = 1;
+    public static final int ROUNDS_PER_BAND = 2;
+
+    private static WordPool instance;
+    private static boolean created;
+
+    private final OfflineDictionary dictionary;
+    private final File file;
+    private final int[] played;
+    private final int[] solved;
+    private final int[] validSynonyms;
+    private DifficultyIndex index; // Guarded by this; null until built
+    private final AtomicBoolean savePending = new AtomicBoolean();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "word-pool");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Scores and indexes the dictionary in the background; a null file keeps solve counts in memory
+    public WordPool(OfflineDictionary dictionary, File file) {
+        this.dictionary = dictionary;
+        this.file = file;
+        this.played = new int[dictionary.size()];
+        this.solved = new int[dictionary.size()];
+        this.validSynonyms = new int[dictionary.size()];
+        worker.execute(this::build);
+    }
+
+    // Shared pool over the bundled dictionary (null when there is no dictionary)
+    public static synchronized WordPool getInstance(Context context) {
+        if (!created) {
+            created = true;
+            OfflineDictionary dictionary = OfflineDictionary.getInstance(context);
+            if (dictionary != null && dictionary.size() > 0) {
+                File file = new File(context.getApplicationContext().getFilesDir(), FILE_NAME);
+                instance = new WordPool(dictionary, file);
+            }
+        }
+        return instance;
+    }
+
+    public static int bandForStreak(int roundsWon) {
+        return START_BAND + roundsWon / ROUNDS_PER_BAND; // DifficultyIndex clamps to its last band
+    }
+
+    public synchronized boolean isReady() {
+        return index != null;
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        if (file != null) loadStats();
+        float[] scores = new float[dictionary.size()];
+        for (int id = 0; id < scores.length; id++) {
+            String word = dictionary.wordAt(id);
+            validSynonyms[id] = SynonymFilter.countValid(dictionary.synonymsOf(id), word);
+            scores[id] = WordDifficulty.score(word, validSynonyms[id], played[id], solved[id]);
+        }
+        DifficultyIndex built = new DifficultyIndex(scores, DifficultyIndex.DEFAULT_BANDS,
+                DifficultyIndex.DEFAULT_RECENT, new Random());
+        synchronized (this) {
+            index = built;
+        }
+        Log.d(TAG, "Indexed " + scores.length + " words in " + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    // Next word for the band, avoiding recent ones (null until the index is built)
+    public synchronized PreparedWord next(int band) {
+        if (index == null) return null;
+        int id = index.select(band);
+        if (id < 0) return null;
+        List<String> synonyms = dictionary.synonymsOf(id);
+        return new PreparedWord(dictionary.wordAt(id), synonyms);
+    }
+
+    // Feed a finished round back into the word's score; words outside the dictionary are ignored
+    public void recordResult(String word, boolean wasSolved) {
+        int id = dictionary.indexOf(word);
+        if (id < 0) return;
+        synchronized (this) {
+            played[id]++;
+            if (wasSolved) solved[id]++;
+            if (index != null) {
+                index.markPlayed(id);
+                index.update(id, WordDifficulty.score(dictionary.wordAt(id), validSynonyms[id],
+                        played[id], solved[id]));
+            }
+        }
+        if (file != null && savePending.compareAndSet(false, true)) {
+            worker.execute(this::saveStats);
+        }
+    }
+
+    private void loadStats() {
+        if (!file.exists()) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) return;
+            int count = in.readInt();
+            synchronized (this) {
+                for (int i = 0; i < count; i++) {
+                    String word = in.readUTF();
+                    int wordPlayed = in.readInt();
+                    int wordSolved = in.readInt();
+                    int id = dictionary.indexOf(word); // Stored by word so a new dictionary keeps its stats
+                    if (id >= 0) {
+                        played[id] = wordPlayed;
+                        solved[id] = wordSolved;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Ignoring unreadable word stats", e);
+        }
+    }
+
+    private void saveStats() {
+        savePending.set(false);
+        File tmp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            synchronized (this) {
+                int count = 0;
+                for (int plays : played) if (plays > 0) count++;
+                out.writeInt(MAGIC);
+                out.writeInt(count);
+                for (int id = 0; id < played.length; id++) {
+                    if (played[id] == 0) continue;
+                    out.writeUTF(dictionary.wordAt(id));
+                    out.writeInt(played[id]);
+                    out.writeInt(solved[id]);
+                }
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Failed to persist word stats", e);
+            return;
+        }
+        if (!tmp.renameTo(file)) {
+            Log.e(TAG, "Failed to replace word stats");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.wordguessinggame;
+
+import java.util.Arrays;
+
+// Letter statistics of a secret word, built once so every hint is an O(1) table lookup
+public final class WordProfile {
+    private static final int ALPHABET = 26;
+    private static final int UNCHECKED = -1;
+
+    private final String word;
+    private final int[] histogram = new int[ALPHABET];
+    private final int[] checkedCounts = new int[ALPHABET];
+    private final int presentMask;
+    private int checkedMask;
+    private final int length;
+    private final char firstLetter;
+    private final char lastLetter;
+
+    public WordProfile(String word) {
+        this.word = word;
+        this.length = word.length();
+        int mask = 0;
+        for (int i = 0; i < length; i++) {
+            int index = letterIndex(word.charAt(i));
+            if (index >= 0) {
+                histogram[index]++;
+                mask |= 1 << index;
+            }
+        }
+        this.presentMask = mask;
+        this.firstLetter = length > 0 ? word.charAt(0) : 0;
+        this.lastLetter = length > 0 ? word.charAt(length - 1) : 0;
+        Arrays.fill(checkedCounts, UNCHECKED);
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public char getFirstLetter() {
+        return firstLetter;
+    }
+
+    public char getLastLetter() {
+        return lastLetter;
+    }
+
+    // Bit i set when letter 'a' + i occurs in the word
+    public int getPresentMask() {
+        return presentMask;
+    }
+
+    public boolean contains(char letter) {
+        int index = letterIndex(letter);
+        return index >= 0 && (presentMask & (1 << index)) != 0;
+    }
+
+    // Occurrences of a letter (non a-z characters fall back to a scan)
+    public int count(char letter) {
+        int index = letterIndex(letter);
+        if (index >= 0) return histogram[index];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (word.charAt(i) == letter) count++;
+        }
+        return count;
+    }
+
+    // Record a letter-check hint and return its count
+    public int check(char letter) {
+        int count = count(letter);
+        int index = letterIndex(letter);
+        if (index >= 0) {
+            checkedCounts[index] = count;
+            checkedMask |= 1 << index;
+        }
+        return count;
+    }
+
+    public boolean isChecked(char letter) {
+        int index = letterIndex(letter);
+        return index >= 0 && (checkedMask & (1 << index)) != 0;
+    }
+
+    public boolean hasCheckedLetters() {
+        return checkedMask != 0;
+    }
+
+    // Bit i set when letter 'a' + i has been checked
+    public int getCheckedMask() {
+        return checkedMask;
+    }
+
+    // Count recorded for a checked letter, or -1 if it was never checked
+    public int checkedCount(char letter) {
+        int index = letterIndex(letter);
+        return index >= 0 ? checkedCounts[index] : UNCHECKED;
+    }
+
+    // Append "a(2) e(1)" for every checked letter in alphabetical order
+    public void appendCheckedLetters(StringBuilder out) {
+        int remaining = checkedMask;
+        while (remaining != 0) {
+            int index = Integer.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            out.append((char) ('a' + index)).append('(').append(checkedCounts[index]).append(')');
+            if (remaining != 0) out.append(' ');
+        }
+    }
+
+    static int letterIndex(char c) {
+        if (c >= 'a' && c <= 'z') return c - 'a';
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        return -1;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.wordguessinggame;
+
+import android.content.Context;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Process-wide bounded queue of pre-validated secret words, refilled in the background
+public class WordSupply {
+    // Supply config constants
+    public static final int DEFAULT_CAPACITY = 3;
+
+    private static WordSupply instance;
+
+    // Receives a word for the next round (called on a background thread on a miss)
+    public interface WordCallback {
+        void onWordReady(PreparedWord word);
+
+        void onWordUnavailable();
+    }
+
+    private final WordAcquirer acquirer;
+    private final OfflineDictionary dictionary; // Fallback when the API cannot supply a word
+    private final Random random = new Random();
+    private final int capacity;
+    private final BlockingQueue<PreparedWord> ready;
+    private final Queue<WordCallback> waiting = new ConcurrentLinkedQueue<>();
+    private final ExecutorService refillExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "word-supply-refill");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    // Counters
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refills = new AtomicLong();
+    private final AtomicLong refillFailures = new AtomicLong();
+    private final AtomicLong totalRefillNanos = new AtomicLong();
+    private final AtomicLong maxRefillNanos = new AtomicLong();
+
+    public WordSupply(WordAcquirer acquirer, OfflineDictionary dictionary, int capacity) {
+        this.acquirer = acquirer;
+        this.dictionary = dictionary;
+        this.capacity = capacity;
+        this.ready = new ArrayBlockingQueue<>(capacity);
+    }
+
+    // Shared instance so prepared words survive across game screens
+    public static synchronized WordSupply getInstance(Context context) {
+        if (instance == null) {
+            OfflineDictionary dictionary = OfflineDictionary.getInstance(context);
+            WordAcquirer acquirer = new WordAcquirer(NetworkModule.getInstance().getApiService(),
+                    SynonymCache.getInstance(context), dictionary, RejectedWordFilter.getInstance(context),
+                    WordAcquirer.DEFAULT_FAN_OUT, WordAcquirer.DEFAULT_DEADLINE_MS);
+            instance = new WordSupply(acquirer, dictionary, DEFAULT_CAPACITY);
+        }
+        return instance;
+    }
+
+    // Start filling the queue without taking a word
+    public void prefill() {
+        scheduleRefill();
+    }
+
+    // Hand out a ready word immediately, or deliver one as soon as a refill produces it
+    public void take(WordCallback callback) {
+        PreparedWord word = ready.poll();
+        if (word != null) {
+            hits.incrementAndGet();
+            callback.onWordReady(word);
+        } else {
+            misses.incrementAndGet();
+            if (!waiting.contains(callback)) {
+                waiting.add(callback);
+            }
+        }
+        scheduleRefill();
+    }
+
+    // Drop a pending callback (e.g. when its screen is destroyed)
+    public void cancel(WordCallback callback) {
+        waiting.remove(callback);
+    }
+
+    private void scheduleRefill() {
+        if (needsRefill() && refilling.compareAndSet(false, true)) {
+            refillExecutor.execute(this::refillLoop);
+        }
+    }
+
+    private boolean needsRefill() {
+        return !waiting.isEmpty() || ready.size() < capacity;
+    }
+
+    // Keep acquiring words until every waiter is served and the queue is full
+    private void refillLoop() {
+        try {
+            while (needsRefill()) {
+                long start = System.nanoTime();
+                PreparedWord word = acquirer.acquire();
+                recordRefill(System.nanoTime() - start, word != null);
+
+                if (word == null) {
+                    failWaiters();
+                    return;
+                }
+
+                WordCallback callback = waiting.poll();
+                if (callback != null) {
+                    callback.onWordReady(word);
+                } else if (!ready.offer(word)) {
+                    return;
+                }
+            }
+        } finally {
+            refilling.set(false);
+            // A waiter may have arrived between the last check and releasing the flag
+            if (!waiting.isEmpty()) {
+                scheduleRefill();
+            }
+        }
+    }
+
+    // Serve waiters from the offline dictionary, or report failure if there is none
+    private void failWaiters() {
+        WordCallback callback;
+        while ((callback = waiting.poll()) != null) {
+            if (dictionary != null) {
+                callback.onWordReady(dictionary.randomPreparedWord(random));
+            } else {
+                callback.onWordUnavailable();
+            }
+        }
+    }
+
+    private void recordRefill(long nanos, boolean success) {
+        if (success) {
+            refills.incrementAndGet();
+        } else {
+            refillFailures.incrementAndGet();
+        }
+        totalRefillNanos.addAndGet(nanos);
+        maxRefillNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public int getReadyCount() {
+        return ready.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getRefillCount() {
+        return refills.get();
+    }
+
+    public long getRefillFailureCount() {
+        return refillFailures.get();
+    }
+
+    // Average time to produce one validated word (including failed attempts)
+    public long getAverageRefillMillis() {
+        long attempts = refills.get() + refillFailures.get();
+        return attempts == 0 ? 0 : totalRefillNanos.get() / attempts / 1_000_000;
+    }
+
+    public long getMaxRefillMillis() {
+        return maxRefillNanos.get() / 1_000_000;
+    }
+
+    // One-line summary for logging
+    public String describeStats() {
+        return String.format(Locale.US,
+                "ready=%d hits=%d misses=%d refills=%d failures=%d avgRefill=%dms maxRefill=%dms",
+                getReadyCount(), getHitCount(), getMissCount(), getRefillCount(),
+                getRefillFailureCount(), getAverageRefillMillis(), getMaxRefillMillis());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+// Drives the guard with a local stand-in that answers with 429s and slow responses
+public class ApiGuardTest {
+    private static final String WORD_BODY = "{\"word\":[\"happy\"]}";
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private ApiService serviceWith(ApiGuard guard) {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .readTimeout(5, TimeUnit.SECONDS)
+                .addInterceptor(guard)
+                .build();
+        return new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(ApiService.class);
+    }
+
+    private String randomWordEndpoint() {
+        return NetworkTimings.endpointOf(server.url("/v1/randomword"));
+    }
+
+    @Test
+    public void repeated429sOpenTheCircuitAndShedCalls() throws Exception {
+        ApiService api = serviceWith(new ApiGuard(100, 100, 1_000, 5_000, 60_000)); // Rides out the 429 slowdown
+        for (int i = 0; i < ApiGuard.MIN_CALLS; i++) {
+            server.enqueue(new MockResponse().setResponseCode(429));
+        }
+
+        for (int i = 0; i < ApiGuard.MIN_CALLS; i++) {
+            assertEquals(429, api.getRandomWord().execute().code());
+        }
+        for (int i = 0; i < 10; i++) {
+            try {
+                api.getRandomWord().execute();
+                fail("Call should have been shed");
+            } catch (ApiGuard.RejectedException e) {
+                assertTrue(e.circuitOpen);
+            }
+        }
+        assertEquals(ApiGuard.MIN_CALLS, server.getRequestCount());
+    }
+
+    @Test
+    public void slowResponsesOpenTheCircuitAndAProbeClosesIt() throws Exception {
+        ApiGuard guard = new ApiGuard(100, 100, 0, 50, 200);
+        ApiService api = serviceWith(guard);
+        for (int i = 0; i < ApiGuard.MIN_CALLS; i++) {
+            server.enqueue(new MockResponse().setBody(WORD_BODY).setHeadersDelay(150, TimeUnit.MILLISECONDS));
+        }
+        server.enqueue(new MockResponse().setBody(WORD_BODY));
+
+        for (int i = 0; i < ApiGuard.MIN_CALLS; i++) {
+            assertTrue(api.getRandomWord().execute().isSuccessful()); // Slow but still delivered
+        }
+        assertFalse(guard.isAvailable(randomWordEndpoint()));
+
+        Thread.sleep(300);
+        assertEquals(ApiGuard.State.HALF_OPEN, guard.getState(randomWordEndpoint()));
+        Response<RandomWordResponse> probe = api.getRandomWord().execute();
+        assertEquals("happy", probe.body().getWord());
+        assertEquals(ApiGuard.State.CLOSED, guard.getState(randomWordEndpoint()));
+    }
+
+    @Test
+    public void retryAfterKeepsTheCircuitOpenLongerThanTheBackoff() throws Exception {
+        ApiGuard guard = new ApiGuard(100, 100, 1_000, 5_000, 50);
+        ApiService api = serviceWith(guard);
+        for (int i = 0; i < ApiGuard.MIN_CALLS; i++) {
+            server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "2"));
+        }
+        for (int i = 0; i < ApiGuard.MIN_CALLS; i++) {
+            api.getRandomWord().execute();
+        }
+
+        Thread.sleep(200); // Well past the 50ms backoff
+        try {
+            api.getRandomWord().execute();
+            fail("Retry-After should still hold the circuit open");
+        } catch (ApiGuard.RejectedException e) {
+            assertTrue(e.retryAfterMillis > 1_000);
+        }
+    }
+
+    @Test
+    public void tokenBucketDelaysShortBurstsAndShedsLongOnes() throws Exception {
+        for (int i = 0; i < 4; i++) server.enqueue(new MockResponse().setBody(WORD_BODY));
+
+        ApiService delaying = serviceWith(new ApiGuard(10, 1, 1_000, 5_000, 5_000));
+        long start = System.nanoTime();
+        delaying.getRandomWord().execute();
+        delaying.getRandomWord().execute(); // Waits ~100ms for the next token
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 80);
+
+        ApiService shedding = serviceWith(new ApiGuard(0.5, 1, 100, 5_000, 5_000));
+        shedding.getRandomWord().execute();
+        try {
+            shedding.getRandomWord().execute();
+            fail("Second call needs a 2s wait and should be shed");
+        } catch (ApiGuard.RejectedException e) {
+            assertFalse(e.circuitOpen);
+        }
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void acquirerFailsFastWhileTheCircuitIsOpen() throws Exception {
+        ApiGuard guard = new ApiGuard(100, 100, 0, 5_000, 60_000);
+        ApiService api = serviceWith(guard);
+        for (int i = 0; i < ApiGuard.MIN_CALLS; i++) {
+            server.enqueue(new MockResponse().setResponseCode(503));
+            api.getRandomWord().execute();
+        }
+
+        WordAcquirer acquirer = new WordAcquirer(api, new SynonymCache(null, 16, 0), null, null, 3, 5_000);
+        long start = System.nanoTime();
+        assertNull(acquirer.acquire()); // WordSupply then serves the offline dictionary
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        assertEquals(ApiGuard.MIN_CALLS, server.getRequestCount());
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import org.junit.Test;
+
+// Candidate narrowing: bitset intersections checked against filtering the word list directly
+public class CandidateIndexTest {
+
+    private static int occurrences(String word, char letter) {
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) == letter) count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void hintsNarrowTheCount() {
+        CandidateIndex index = new CandidateIndex(Arrays.asList("apple", "angle", "ample", "maple", "pear", "peel"));
+        CandidateIndex.Candidates candidates = index.newRound("apple");
+        assertEquals(6, candidates.count());
+
+        candidates.matchLength(5);
+        assertEquals(4, candidates.count());
+        candidates.matchLetterCount('p', 2);
+        assertEquals(1, candidates.count()); // Only "apple" has two p's
+        candidates.matchLetterCount('z', 0);
+        assertEquals(1, candidates.count());
+    }
+
+    @Test
+    public void guessesAndTipsRuleWordsOut() {
+        CandidateIndex index = new CandidateIndex(Arrays.asList("brave", "bold", "valiant", "timid", "meek"));
+        CandidateIndex.Candidates candidates = index.newRound("valiant");
+        candidates.exclude("TIMID");
+        candidates.exclude("unlisted");
+        assertEquals(4, candidates.count());
+        candidates.restrictTo(Arrays.asList("brave", "bold", "valiant", "courageous"));
+        assertEquals(3, candidates.count());
+    }
+
+    @Test
+    public void answerMissingFromTheVocabularyStillCounts() {
+        CandidateIndex index = new CandidateIndex(Arrays.asList("cat", "dog", "cow"));
+        CandidateIndex.Candidates candidates = index.newRound("ferret");
+        candidates.matchLength(6);
+        assertEquals(1, candidates.count()); // Nothing listed is six letters, but the answer is
+    }
+
+    @Test
+    public void answerSurvivesEveryConstraint() {
+        CandidateIndex index = new CandidateIndex(Arrays.asList("valiant", "gallant", "brave", "bold", "timid"));
+        CandidateIndex.Candidates candidates = index.newRound("valiant");
+        candidates.matchLength(7);
+        candidates.matchLetterCount('a', 2);
+        candidates.matchLetterCount('v', 1);
+        candidates.matchLetterCount('z', 0);
+        candidates.exclude("gallant");
+        assertEquals(1, candidates.count());
+        candidates.restrictTo(Arrays.asList("brave", "bold", "heroic")); // A tip whose neighbours miss the answer
+        assertEquals(1, candidates.count());
+        candidates.exclude("valiant");
+        assertEquals(0, candidates.count()); // The one left was the answer
+
+        Random random = new Random(11);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(6);
+            for (int j = 0; j < length; j++) word.append((char) ('a' + random.nextInt(8)));
+            words.add(word.toString());
+        }
+        index = new CandidateIndex(words);
+        for (int round = 0; round < 50; round++) {
+            String answer = words.get(random.nextInt(words.size()));
+            candidates = index.newRound(answer);
+            candidates.matchLength(answer.length());
+            for (char letter = 'a'; letter <= 'j'; letter++) {
+                candidates.matchLetterCount(letter, occurrences(answer, letter));
+                String guess = words.get(random.nextInt(words.size()));
+                if (!guess.equals(answer)) candidates.exclude(guess);
+                candidates.restrictTo(words.subList(random.nextInt(words.size()), words.size()));
+            }
+            int left = candidates.count();
+            candidates.exclude(answer); // Drops the count by one only if the answer was still in
+            assertEquals(answer, left - 1, candidates.count());
+        }
+    }
+
+    @Test
+    public void randomConstraintsMatchBruteForce() {
+        Random random = new Random(5);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(8);
+            for (int j = 0; j < length; j++) word.append((char) ('a' + random.nextInt(10)));
+            words.add(word.toString());
+        }
+        CandidateIndex index = new CandidateIndex(words);
+        List<String> unique = new ArrayList<>(new TreeSet<>(words));
+
+        for (int round = 0; round < 50; round++) {
+            String answer = unique.get(random.nextInt(unique.size()));
+            CandidateIndex.Candidates candidates = index.newRound(answer);
+            List<Predicate<String>> facts = new ArrayList<>();
+            for (int hint = 0; hint < 4; hint++) {
+                if (hint == 0 && random.nextBoolean()) {
+                    int length = answer.length();
+                    candidates.matchLength(length);
+                    facts.add(w -> w.length() == length);
+                } else if (random.nextInt(4) == 0) {
+                    String guess = unique.get(random.nextInt(unique.size()));
+                    if (guess.equals(answer)) continue;
+                    candidates.exclude(guess);
+                    facts.add(w -> !w.equals(guess));
+                } else {
+                    char letter = (char) ('a' + random.nextInt(12));
+                    int count = occurrences(answer, letter);
+                    candidates.matchLetterCount(letter, count);
+                    facts.add(w -> Math.min(occurrences(w, letter), 3) == Math.min(count, 3));
+                }
+                long expected = unique.stream().filter(w -> facts.stream().allMatch(f -> f.test(w))).count();
+                assertEquals(expected, candidates.count());
+            }
+        }
+    }
+}
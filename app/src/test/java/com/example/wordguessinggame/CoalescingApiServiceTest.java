@@ -0,0 +1,144 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+// Fires identical thesaurus lookups at a slow local stand-in and checks they share one request
+public class CoalescingApiServiceTest {
+    private static final int CALLERS = 16;
+    private static final String BODY = "{\"synonyms\":[\"glad\",\"cheerful\",\"merry\"]}";
+
+    private MockWebServer server;
+    private CoalescingApiService apiService;
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        apiService = new CoalescingApiService(new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(ApiService.class));
+        pool = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        pool.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void concurrentIdenticalLookupsReachServerOnce() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setBodyDelay(300, TimeUnit.MILLISECONDS));
+        server.enqueue(new MockResponse().setBody(BODY)); // Only used if coalescing fails
+
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Response<ThesaurusResponse>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(pool.submit(() -> {
+                go.await();
+                return apiService.getSynonyms("happy").execute();
+            }));
+        }
+        go.countDown();
+
+        List<List<String>> lists = new ArrayList<>();
+        for (Future<Response<ThesaurusResponse>> result : results) {
+            Response<ThesaurusResponse> response = result.get(5, TimeUnit.SECONDS);
+            assertTrue(response.isSuccessful());
+            assertEquals(3, response.body().synonyms.size());
+            lists.add(response.body().synonyms);
+        }
+        assertNotSame(lists.get(0), lists.get(1)); // Each caller may filter its own copy
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, apiService.getStartedCount());
+        assertEquals(CALLERS - 1, apiService.getSavedCount());
+    }
+
+    @Test
+    public void cancellingOneCallerKeepsTheSharedCallForOthers() throws Exception {
+        server.enqueue(new MockResponse().setBody(BODY).setBodyDelay(300, TimeUnit.MILLISECONDS));
+
+        Call<ThesaurusResponse> first = apiService.getSynonyms("happy");
+        Future<Response<ThesaurusResponse>> firstResult = pool.submit(first::execute);
+        server.takeRequest(5, TimeUnit.SECONDS); // First caller owns the flight
+        Future<Response<ThesaurusResponse>> second = pool.submit(() -> apiService.getSynonyms("happy").execute());
+        while (apiService.getSavedCount() == 0) Thread.sleep(5);
+
+        first.cancel();
+
+        assertTrue(second.get(5, TimeUnit.SECONDS).isSuccessful());
+        try {
+            firstResult.get(5, TimeUnit.SECONDS);
+            throw new AssertionError("Cancelled caller should not get a response");
+        } catch (java.util.concurrent.ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof IOException);
+        }
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void callCancelledBeforeItStartsNeverJoinsAFlight() throws Exception {
+        Call<ThesaurusResponse> executed = apiService.getSynonyms("happy");
+        executed.cancel();
+        try {
+            executed.execute();
+            throw new AssertionError("Cancelled call should not run");
+        } catch (IOException expected) {
+            // Returns at once instead of waiting on a flight nobody releases
+        }
+
+        Call<ThesaurusResponse> enqueued = apiService.getSynonyms("happy");
+        enqueued.cancel();
+        CountDownLatch failed = new CountDownLatch(1);
+        enqueued.enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<ThesaurusResponse> call, Response<ThesaurusResponse> response) {
+            }
+
+            @Override
+            public void onFailure(Call<ThesaurusResponse> call, Throwable t) {
+                failed.countDown();
+            }
+        });
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, apiService.getStartedCount());
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void sequentialAndDifferentLookupsAreNotShared() throws Exception {
+        for (int i = 0; i < 3; i++) server.enqueue(new MockResponse().setBody(BODY));
+
+        apiService.getSynonyms("happy").execute();
+        apiService.getSynonyms("happy").execute(); // Nothing in flight any more
+        apiService.getSynonyms("sad").execute();
+
+        assertEquals(3, server.getRequestCount());
+        assertEquals(0, apiService.getSavedCount());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+// Band selection, recency and re-scoring of the difficulty index
+public class DifficultyIndexTest {
+
+    private static float[] evenScores(int count) {
+        float[] scores = new float[count];
+        for (int id = 0; id < count; id++) scores[id] = (float) id / count;
+        return scores;
+    }
+
+    @Test
+    public void bandsSplitThePoolByQuantile() {
+        DifficultyIndex index = new DifficultyIndex(evenScores(1_000), 10, 0, new Random(1));
+        for (int band = 0; band < 10; band++) assertEquals(100, index.bandSize(band));
+        assertEquals(0, index.bandOf(0));
+        assertEquals(9, index.bandOf(999));
+        assertEquals(4, index.bandFor(0.45f));
+    }
+
+    @Test
+    public void bandIsDealtWithoutRepeatsBeforeCycling() {
+        DifficultyIndex index = new DifficultyIndex(evenScores(1_000), 10, 0, new Random(2));
+        Set<Integer> dealt = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            int id = index.select(3);
+            assertEquals(3, index.bandOf(id));
+            assertTrue("repeated " + id, dealt.add(id));
+        }
+        assertEquals(3, index.bandOf(index.select(3))); // Next cycle starts
+    }
+
+    @Test
+    public void recentWordsAreAvoidedAcrossCycles() {
+        DifficultyIndex index = new DifficultyIndex(evenScores(20), 2, 8, new Random(3));
+        int[] last = new int[8];
+        for (int i = 0; i < 200; i++) {
+            int id = index.select(0);
+            for (int seen : last) assertFalse(i >= 8 && seen == id);
+            last[i % 8] = id;
+        }
+    }
+
+    @Test
+    public void rescoredWordMovesBandAndIsStillDealtOnce() {
+        DifficultyIndex index = new DifficultyIndex(evenScores(100), 4, 0, new Random(4));
+        for (int i = 0; i < 10; i++) index.select(0); // Part of band 0 already dealt
+        index.update(5, 0.99f);
+        index.update(90, 0.01f);
+
+        assertEquals(3, index.bandOf(5));
+        assertEquals(0, index.bandOf(90));
+        assertEquals(25, index.bandSize(0));
+        Set<Integer> dealt = new HashSet<>();
+        for (int i = 0; i < 25; i++) dealt.add(index.select(3));
+        assertEquals(25, dealt.size());
+        assertTrue(dealt.contains(5));
+    }
+
+    @Test
+    public void emptyBandFallsBackToNearest() {
+        float[] scores = {0.1f, 0.1f, 0.1f, 0.9f};
+        DifficultyIndex index = new DifficultyIndex(scores, 4, 0, new Random(5));
+        assertEquals(0, index.bandSize(0));
+        assertEquals(2, index.bandOf(index.select(0)));
+    }
+
+    @Test
+    public void harderWordsScoreHigher() {
+        assertTrue(WordDifficulty.score("quixotic", 1, 4, 0) > WordDifficulty.score("tree", 8, 4, 4));
+        assertTrue(WordDifficulty.score("house", 5, 10, 1) > WordDifficulty.score("house", 5, 10, 9));
+    }
+}
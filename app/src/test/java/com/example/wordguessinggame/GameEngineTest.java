@@ -0,0 +1,159 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// Round rules of the engine without the activity around it
+public class GameEngineTest {
+
+    private static GameEngine playing(String word) {
+        GameEngine engine = new GameEngine();
+        engine.startWord(word);
+        return engine;
+    }
+
+    @Test
+    public void wrongGuessesCostScoreAndAttempts() {
+        GameEngine engine = playing("apple");
+        assertEquals(GameEngine.Phase.PLAYING, engine.getPhase());
+        assertEquals(GameEngine.GuessResult.INCORRECT, engine.submitGuess("grape"));
+        assertEquals(GameEngine.GuessResult.INCORRECT, engine.submitGuess("lemon"));
+        assertEquals(GameEngine.START_SCORE - 2 * GameEngine.WRONG_GUESS_PENALTY, engine.getScore());
+        assertEquals(GameEngine.START_ATTEMPTS - 2, engine.getAttemptsLeft());
+        assertEquals(2, engine.getWordAttempts());
+        assertEquals(GameEngine.Phase.PLAYING, engine.getPhase());
+    }
+
+    @Test
+    public void blankGuessesAreIgnored() {
+        GameEngine engine = playing("apple");
+        assertEquals(GameEngine.GuessResult.IGNORED, engine.submitGuess("   "));
+        assertEquals(GameEngine.START_ATTEMPTS, engine.getAttemptsLeft());
+        assertEquals(0, engine.getWordAttempts());
+    }
+
+    @Test
+    public void correctGuessWinsAndEndsTheWord() {
+        GameEngine engine = playing("apple");
+        engine.submitGuess("grape");
+        assertEquals(GameEngine.GuessResult.CORRECT, engine.submitGuess(" Apple "));
+        assertEquals(GameEngine.Phase.WON, engine.getPhase());
+        assertEquals(GameEngine.START_SCORE - GameEngine.WRONG_GUESS_PENALTY + GameEngine.CORRECT_BONUS,
+                engine.getScore());
+        assertEquals(GameEngine.START_ATTEMPTS - 2, engine.getAttemptsLeft());
+
+        // Nothing counts once the word is decided
+        assertEquals(GameEngine.GuessResult.IGNORED, engine.submitGuess("grape"));
+        assertEquals(GameEngine.HintResult.NOT_AVAILABLE, engine.checkLetter('a'));
+        assertEquals(GameEngine.HintResult.NOT_AVAILABLE, engine.revealLength());
+        assertEquals(GameEngine.HintResult.NOT_AVAILABLE, engine.requestTip());
+    }
+
+    @Test
+    public void runningOutOfAttemptsLoses() {
+        GameEngine engine = playing("apple");
+        for (int i = 0; i < GameEngine.START_ATTEMPTS - 1; i++) {
+            assertEquals(GameEngine.GuessResult.INCORRECT, engine.submitGuess("miss"));
+            assertEquals(GameEngine.Phase.PLAYING, engine.getPhase());
+        }
+        assertEquals(GameEngine.GuessResult.INCORRECT, engine.submitGuess("miss"));
+        assertEquals(GameEngine.Phase.LOST, engine.getPhase());
+        assertEquals(0, engine.getAttemptsLeft());
+    }
+
+    @Test
+    public void runningOutOfScoreLoses() {
+        GameEngine engine = playing("apple");
+        while (engine.getScore() >= GameEngine.LETTER_COST) {
+            assertEquals(GameEngine.HintResult.GRANTED, engine.checkLetter('z'));
+        }
+        assertEquals(GameEngine.HintResult.NOT_ENOUGH_POINTS, engine.checkLetter('a'));
+        assertEquals(GameEngine.GuessResult.INCORRECT, engine.submitGuess("miss"));
+        assertEquals(GameEngine.Phase.LOST, engine.getPhase());
+        assertEquals(0, engine.getScore());
+    }
+
+    @Test
+    public void lengthAndTipAreChargedOncePerWord() {
+        GameEngine engine = playing("apple");
+        assertEquals(GameEngine.HintResult.GRANTED, engine.revealLength());
+        assertEquals(GameEngine.HintResult.ALREADY_USED, engine.revealLength());
+        assertEquals(GameEngine.HintResult.GRANTED, engine.requestTip());
+        assertEquals(GameEngine.HintResult.ALREADY_USED, engine.requestTip());
+        assertEquals(GameEngine.START_SCORE - GameEngine.LENGTH_COST - GameEngine.TIP_COST, engine.getScore());
+        assertTrue(engine.isLengthRevealed());
+        assertTrue(engine.isTipUsed());
+
+        // A new word resets the per-word hints but keeps the running score
+        engine.startWord("pear");
+        assertFalse(engine.isLengthRevealed());
+        assertEquals(GameEngine.HintResult.GRANTED, engine.requestTip());
+        assertEquals(GameEngine.START_SCORE - GameEngine.LENGTH_COST - 2 * GameEngine.TIP_COST, engine.getScore());
+    }
+
+    @Test
+    public void hintsNeedEnoughPoints() {
+        GameEngine engine = playing("apple");
+        while (engine.getScore() >= GameEngine.TIP_COST) engine.checkLetter('z');
+        int score = engine.getScore();
+        assertEquals(GameEngine.HintResult.NOT_ENOUGH_POINTS, engine.requestTip());
+        assertEquals(score, engine.getScore());
+        assertFalse(engine.isTipUsed());
+    }
+
+    @Test
+    public void refundedTipGivesThePointsBackOnce() {
+        GameEngine engine = playing("apple");
+        engine.requestTip();
+        engine.refundTip();
+        engine.refundTip();
+        assertEquals(GameEngine.START_SCORE, engine.getScore());
+        assertFalse(engine.isTipUsed());
+        assertEquals(GameEngine.HintResult.GRANTED, engine.requestTip());
+    }
+
+    @Test
+    public void tipUnlocksAfterEnoughGuessesOnOneWord() {
+        GameEngine engine = playing("apple");
+        for (int i = 0; i < GameEngine.TIP_UNLOCK_ATTEMPTS - 1; i++) engine.submitGuess("miss");
+        assertFalse(engine.isTipUnlocked());
+        engine.submitGuess("miss");
+        assertTrue(engine.isTipUnlocked());
+        engine.startWord("pear");
+        assertFalse(engine.isTipUnlocked());
+    }
+
+    @Test
+    public void newRoundRestoresTheBudgetAndWaitsForAWord() {
+        GameEngine engine = playing("apple");
+        engine.revealLength();
+        engine.submitGuess("grape");
+        engine.newRound();
+        assertEquals(GameEngine.Phase.WAITING_FOR_WORD, engine.getPhase());
+        assertEquals(GameEngine.START_SCORE, engine.getScore());
+        assertEquals(GameEngine.START_ATTEMPTS, engine.getAttemptsLeft());
+        assertEquals(0, engine.getWordAttempts());
+        assertFalse(engine.isLengthRevealed());
+        assertEquals(GameEngine.GuessResult.IGNORED, engine.submitGuess("apple"));
+
+        engine.startWord("pear");
+        assertEquals(GameEngine.Phase.PLAYING, engine.getPhase());
+    }
+
+    @Test
+    public void nonLetterCheckIsTurnedAwayBeforeItCostsPoints() {
+        GameEngine engine = playing("apple");
+        assertEquals(GameEngine.HintResult.NOT_AVAILABLE, engine.checkLetter('1'));
+        assertEquals(GameEngine.HintResult.NOT_AVAILABLE, engine.checkLetter(' '));
+        assertEquals(GameEngine.START_SCORE, engine.getScore());
+        assertFalse(engine.getProfile().hasCheckedLetters());
+
+        assertEquals(GameEngine.HintResult.GRANTED, engine.checkLetter('P'));
+        assertEquals(GameEngine.START_SCORE - GameEngine.LETTER_COST, engine.getScore());
+        assertTrue(engine.getProfile().isChecked('p'));
+        assertEquals(2, engine.getProfile().checkedCount('p'));
+    }
+}
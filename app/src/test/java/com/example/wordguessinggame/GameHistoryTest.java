@@ -0,0 +1,122 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+// Game history log, its stats snapshot and recovery from damaged files
+public class GameHistoryTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private File log;
+    private File snapshot;
+
+    @Before
+    public void setUp() {
+        log = new File(tmp.getRoot(), "history.log");
+        snapshot = new File(tmp.getRoot(), "stats.bin");
+    }
+
+    private static GameHistory.Record round(String word, int score, int seconds, boolean won) {
+        return new GameHistory.Record(1_700_000_000_000L, word, score, seconds, 3, 1, won, false, won);
+    }
+
+    private GameHistory reopen(GameHistory history) {
+        history.flush();
+        return new GameHistory(log, snapshot);
+    }
+
+    @Test
+    public void aggregatesTrackBestsStreaksAndPercentiles() {
+        GameHistory history = new GameHistory(log, snapshot);
+        history.append(round("apple", 120, 30, true));
+        history.append(round("brave", 140, 12, true));
+        history.append(round("cloud", 40, 90, false));
+        history.append(round("dwell", 110, 20, true));
+
+        GameStats stats = history.getStats();
+        assertEquals(4, stats.getGames());
+        assertEquals(3, stats.getWins());
+        assertEquals(140, stats.getBestScore());
+        assertEquals("brave", stats.getBestScoreWord());
+        assertEquals(12, stats.getFastestWinSeconds());
+        assertEquals(1, stats.getCurrentStreak());
+        assertEquals(2, stats.getBestStreak());
+        assertEquals(102.5, stats.averageScore(), 1e-9);
+        assertEquals(110, stats.scorePercentile(0.5));
+        assertEquals(140, stats.scorePercentile(1.0));
+        assertEquals(1.75, stats.averageHints(), 1e-9); // One letter, plus the length on wins
+    }
+
+    @Test
+    public void reopenReplaysOnlyRecordsAfterTheSnapshot() throws Exception {
+        GameHistory history = new GameHistory(log, snapshot);
+        for (int i = 0; i < 50; i++) history.append(round("word" + i, i, i, i % 3 != 0));
+        history.flush();
+        long covered = log.length(); // The snapshot covers every record so far
+        // A record the snapshot doesn't cover yet, e.g. the process died before the background write
+        File otherLog = new File(tmp.getRoot(), "other.log");
+        GameHistory other = new GameHistory(otherLog, new File(tmp.getRoot(), "other.bin"));
+        other.append(round("late", 99, 5, true));
+        other.flush();
+        try (FileOutputStream out = new FileOutputStream(log, true)) {
+            out.write(Files.readAllBytes(otherLog.toPath()));
+        }
+
+        // Wipe the covered records: reading any of them would hit a bad record and truncate the log there
+        long length = log.length();
+        try (RandomAccessFile raf = new RandomAccessFile(log, "rw")) {
+            raf.write(new byte[(int) covered]);
+        }
+
+        GameHistory reopened = new GameHistory(log, snapshot);
+        GameStats stats = reopened.getStats();
+        assertEquals(51, stats.getGames()); // 50 from the snapshot, one replayed
+        assertEquals(99, stats.getBestScore());
+        assertEquals(length, reopened.getLogBytes());
+        assertEquals(length, log.length());
+    }
+
+    @Test
+    public void tornTailIsTruncatedAndAppendsContinue() throws Exception {
+        GameHistory history = new GameHistory(log, snapshot);
+        history.append(round("first", 80, 10, true));
+        history.flush();
+        long good = log.length();
+        try (FileOutputStream out = new FileOutputStream(log, true)) {
+            out.write(new byte[]{0x47, 0x48, 0x00, 0x00, 0x01}); // Record cut off mid-write
+        }
+
+        GameHistory restarted = new GameHistory(log, snapshot);
+        assertEquals(1, restarted.getStats().getGames()); // Waits for the background open
+        assertEquals(good, log.length());
+        restarted.append(round("second", 90, 8, true));
+        assertEquals(2, reopen(restarted).getStats().getGames());
+    }
+
+    @Test
+    public void damagedOrStaleSnapshotIsRebuiltFromTheLog() throws Exception {
+        GameHistory history = new GameHistory(log, snapshot);
+        for (int i = 0; i < 10; i++) history.append(round("word" + i, 100 + i, 10, true));
+        history.flush();
+
+        try (RandomAccessFile raf = new RandomAccessFile(snapshot, "rw")) {
+            raf.seek(20);
+            raf.write(0x7f); // Bit rot: CRC mismatch
+        }
+        GameStats rebuilt = new GameHistory(log, snapshot).getStats();
+        assertEquals(10, rebuilt.getGames());
+        assertEquals(10, rebuilt.getBestStreak());
+
+        new FileOutputStream(log).close(); // History wiped, snapshot left behind
+        assertEquals(0, new GameHistory(log, snapshot).getStats().getGames());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import org.junit.Test;
+
+// Bit-parallel edit distance and shared letters, checked against the textbook DP
+public class GuessFeedbackTest {
+
+    private static GuessFeedback measure(String word, String guess) {
+        GuessFeedback feedback = new GuessFeedback(new WordProfile(word));
+        feedback.measure(guess);
+        return feedback;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j], d[i][j - 1]) + 1, d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    private static String randomWord(Random random, int length, int letters) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) word.append((char) ('a' + random.nextInt(letters)));
+        return word.toString();
+    }
+
+    @Test
+    public void nearMissesAndSharedLetters() {
+        assertEquals(1, measure("planet", "plant").getDistance());
+        assertEquals(5, measure("planet", "plant").getSharedLetters());
+        assertEquals(3, measure("kitten", "sitting").getDistance());
+        assertEquals(0, measure("apple", "  APPLE ").getDistance()); // Case and padding ignored
+        assertEquals(5, measure("apple", "  APPLE ").getGuessLength());
+        assertEquals(2, measure("apple", "pp").getSharedLetters());
+        assertEquals(2, measure("apple", "ppppp").getSharedLetters()); // Repeats count up to the word's
+        assertEquals(4, measure("", "word").getDistance());
+        assertEquals(5, measure("apple", "").getDistance());
+    }
+
+    @Test
+    public void matchesDynamicProgrammingOnRandomWords() {
+        Random random = new Random(7);
+        for (int round = 0; round < 3000; round++) {
+            String word = randomWord(random, random.nextInt(20), 1 + random.nextInt(6));
+            GuessFeedback feedback = new GuessFeedback(new WordProfile(word));
+            for (int guesses = 0; guesses < 5; guesses++) {
+                String guess = randomWord(random, random.nextInt(24), 1 + random.nextInt(6));
+                feedback.measure(guess);
+                assertEquals(word + " / " + guess, levenshtein(word, guess), feedback.getDistance());
+            }
+        }
+    }
+
+    @Test
+    public void wordsAtAndPastSixtyFourLetters() {
+        Random random = new Random(11);
+        for (int length : new int[]{63, 64, 65, 90}) {
+            String word = randomWord(random, length, 4);
+            GuessFeedback feedback = new GuessFeedback(new WordProfile(word));
+            for (int guesses = 0; guesses < 20; guesses++) {
+                String guess = randomWord(random, random.nextInt(100), 4);
+                feedback.measure(guess);
+                assertEquals(levenshtein(word, guess), feedback.getDistance());
+            }
+        }
+    }
+}
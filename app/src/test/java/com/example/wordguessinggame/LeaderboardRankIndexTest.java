@@ -0,0 +1,126 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+// Rank queries on the indexed skip list, in-place updates, and a cross-check against a sorted list
+public class LeaderboardRankIndexTest {
+
+    private static LeaderboardActivity.LeaderboardEntry entry(String name, int score, int seconds) {
+        LeaderboardActivity.LeaderboardEntry entry = new LeaderboardActivity.LeaderboardEntry();
+        entry.name = name;
+        entry.score = score;
+        entry.seconds = seconds;
+        return entry;
+    }
+
+    @Test
+    public void rankOrdersByScoreThenTime() {
+        LeaderboardRankIndex index = new LeaderboardRankIndex();
+        index.replaceAll(Arrays.asList(
+                entry("ann", 120, 40),
+                entry("bob", 150, 60),
+                entry("cid", 120, 25),
+                entry("dee", 90, 10)), true);
+
+        assertEquals(4, index.size());
+        assertTrue(index.isComplete());
+        assertEquals(1, index.rankOf(200, 99));
+        assertEquals(2, index.rankOf(150, 61)); // Same score, slower
+        assertEquals(1, index.rankOf(150, 60)); // A tie shares the rank
+        assertEquals(3, index.rankOf(120, 30)); // Between cid and ann
+        assertEquals(5, index.rankOf(10, 5));
+    }
+
+    @Test
+    public void submitKeepsOnlyEachPlayersBestRow() {
+        LeaderboardRankIndex index = new LeaderboardRankIndex();
+        index.replaceAll(Arrays.asList(entry("ann", 100, 30), entry("bob", 80, 30)), false);
+
+        index.submit("bob", 70, 10); // Worse than bob's row: ignored
+        assertEquals(2, index.rankOf(90, 30));
+        index.submit("bob", 130, 20); // Moves bob ahead of ann in place
+        assertEquals(2, index.size());
+        assertEquals(2, index.rankOf(110, 0));
+        index.submit("cid", 50, 5);
+        assertEquals(3, index.size());
+        assertEquals(3, index.rankOf(60, 0));
+        assertFalse(index.isComplete());
+    }
+
+    @Test
+    public void pagesAppendAndRefreshReplaces() {
+        LeaderboardRankIndex index = new LeaderboardRankIndex();
+        index.replaceAll(Arrays.asList(entry("a", 300, 10), entry("b", 200, 10)), false);
+        index.addAll(Arrays.asList(entry("c", 100, 10)), true);
+        assertEquals(3, index.size());
+        assertTrue(index.isComplete());
+
+        index.seed(Arrays.asList(entry("stale", 999, 1))); // Cache seed never overrides a fetch
+        assertEquals(3, index.size());
+
+        index.replaceAll(new ArrayList<>(), true);
+        assertEquals(0, index.size());
+        assertEquals(1, index.rankOf(0, 0));
+    }
+
+    @Test
+    public void ownSubmissionsAloneAreNoBoard() {
+        LeaderboardRankIndex index = new LeaderboardRankIndex();
+        index.submit("me", 80, 30);
+        assertFalse(index.hasBoard()); // "#1 of 1" from our own row would mean nothing
+
+        index.seed(Arrays.asList(entry("ann", 100, 20), entry("bob", 60, 40)));
+        assertTrue(index.hasBoard());
+        assertEquals(2, index.rankOf(80, 30)); // Ranked before our own row is added
+        index.submit("me", 80, 30);
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void randomUpdatesMatchSortedRanks() {
+        Random random = new Random(42);
+        LeaderboardRankIndex index = new LeaderboardRankIndex();
+        Map<String, int[]> best = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            String name = "p" + random.nextInt(800);
+            int score = random.nextInt(300);
+            int seconds = random.nextInt(120);
+            index.submit(name, score, seconds);
+            int[] current = best.get(name);
+            if (current == null || score > current[0] || (score == current[0] && seconds < current[1])) {
+                best.put(name, new int[]{score, seconds});
+            }
+
+            if (i % 250 == 0) {
+                int queryScore = random.nextInt(300);
+                int querySeconds = random.nextInt(120);
+                assertEquals(best.size(), index.size());
+                assertEquals(expectedRank(best, queryScore, querySeconds), index.rankOf(queryScore, querySeconds));
+            }
+        }
+        for (int q = 0; q < 200; q++) {
+            int queryScore = random.nextInt(300);
+            int querySeconds = random.nextInt(120);
+            assertEquals(expectedRank(best, queryScore, querySeconds), index.rankOf(queryScore, querySeconds));
+        }
+    }
+
+    private static int expectedRank(Map<String, int[]> rows, int score, int seconds) {
+        List<int[]> sorted = new ArrayList<>(rows.values());
+        int ahead = 0;
+        for (int[] row : sorted) {
+            if (row[0] > score || (row[0] == score && row[1] < seconds)) ahead++;
+        }
+        return ahead + 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+// Checks the stable ids and comparisons the leaderboard diff relies on
+public class LeaderboardRowsTest {
+    private static final LeaderboardRows.Fields<int[]> FIELDS = new LeaderboardRows.Fields<int[]>() {
+        @Override
+        public String name(int[] row) { return "p" + row[0]; }
+
+        @Override
+        public int score(int[] row) { return row[1]; }
+
+        @Override
+        public int seconds(int[] row) { return row[2]; }
+    };
+
+    private static List<int[]> board(int[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    @Test
+    public void idsSurviveARefreshAndDuplicateNamesKeepTheirOwn() {
+        LeaderboardRows.IdRegistry registry = new LeaderboardRows.IdRegistry();
+        LeaderboardRows<int[]> before = LeaderboardRows.of(
+                board(new int[]{1, 90, 10}, new int[]{2, 80, 10}, new int[]{1, 70, 10}), FIELDS, registry);
+        LeaderboardRows<int[]> after = LeaderboardRows.of(
+                board(new int[]{2, 95, 10}, new int[]{1, 90, 10}, new int[]{1, 70, 10}), FIELDS, registry);
+
+        assertNotEquals(before.idAt(0), before.idAt(2));
+        assertTrue(before.sameItem(1, after, 0));
+        assertTrue(before.sameItem(0, after, 1));
+        assertTrue(before.sameItem(2, after, 2));
+        assertTrue(before.sameContents(2, after, 2));
+        assertFalse(before.sameContents(0, after, 1)); // Moved down a rank
+        assertFalse(before.sameContents(1, after, 0)); // New score
+    }
+
+    @Test
+    public void appendKeepsEarlierViewsIntact() {
+        LeaderboardRows.IdRegistry registry = new LeaderboardRows.IdRegistry();
+        LeaderboardRows<int[]> first = LeaderboardRows.of(board(new int[]{1, 90, 10}), FIELDS, registry);
+        LeaderboardRows<int[]> second = first.append(board(new int[]{2, 80, 10}, new int[]{1, 70, 10}));
+        LeaderboardRows<int[]> third = second.append(board(new int[]{3, 60, 10}));
+
+        assertEquals(1, first.size());
+        assertEquals(3, second.size());
+        assertEquals(4, third.size());
+        assertEquals(first.idAt(0), third.idAt(0));
+        assertNotEquals(third.idAt(0), third.idAt(2));
+        assertEquals(2, third.entriesFrom(2).size());
+        assertEquals(3, third.entriesFrom(2).get(1)[0]);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+// Checks the Bloom filter's error rate, persistence and the thesaurus calls it saves
+public class RejectedWordFilterTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void falsePositiveRateStaysNearTheConfiguredTarget() {
+        RejectedWordFilter filter = new RejectedWordFilter(null, 2_000, 0.01);
+        for (int i = 0; i < 2_000; i++) filter.add("bad" + i);
+
+        for (int i = 0; i < 2_000; i++) assertTrue(filter.mightContain("BAD" + i)); // No false negatives
+        int falsePositives = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (filter.mightContain("good" + i)) falsePositives++;
+        }
+        assertTrue("false positives: " + falsePositives, falsePositives < 20_000 * 0.02);
+    }
+
+    @Test
+    public void survivesRestartOnlyWithTheSameParameters() throws IOException {
+        File file = new File(tmp.getRoot(), "rejected.bloom");
+        RejectedWordFilter filter = new RejectedWordFilter(file, 500, 0.01);
+        filter.add("zyzzyva");
+        filter.flush();
+
+        RejectedWordFilter restarted = new RejectedWordFilter(file, 500, 0.01);
+        assertTrue(restarted.mightContain("zyzzyva"));
+        assertEquals(1, restarted.size());
+
+        RejectedWordFilter resized = new RejectedWordFilter(file, 5_000, 0.001);
+        assertFalse(resized.mightContain("zyzzyva"));
+    }
+
+    @Test
+    public void knownBadWordsSkipTheThesaurusCall() throws Exception {
+        AtomicInteger thesaurusCalls = new AtomicInteger();
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getRequestUrl().encodedPath().endsWith("/v1/randomword")) {
+                    return new MockResponse().setBody("{\"word\":[\"qwerty\"]}");
+                }
+                thesaurusCalls.incrementAndGet();
+                return new MockResponse().setBody("{\"synonyms\":[]}");
+            }
+        });
+        server.start();
+        try {
+            ApiService api = new Retrofit.Builder()
+                    .baseUrl(server.url("/"))
+                    .addConverterFactory(GsonConverterFactory.create())
+                    .build()
+                    .create(ApiService.class);
+            RejectedWordFilter filter = new RejectedWordFilter(null, 100, 0.01);
+            WordAcquirer acquirer = new WordAcquirer(api, new SynonymCache(null, 16, 0), null, filter, 1, 5_000);
+
+            assertNull(acquirer.acquire()); // Same bad word for every candidate
+
+            assertEquals(1, thesaurusCalls.get());
+            assertEquals(WordAcquirer.MAX_CANDIDATES - 1, filter.getAvoidedCount());
+        } finally {
+            server.shutdown();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+// Exercises the score outbox against a local Dreamlo stand-in
+public class ScoreOutboxTest {
+    private static final String PRIVATE_CODE = "private";
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private MockWebServer server;
+    private DreamloLeaderboardService service;
+    private File log;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        service = new Retrofit.Builder()
+                .baseUrl(server.url("/lb/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(DreamloLeaderboardService.class);
+        log = new File(tmp.getRoot(), "outbox.log");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    // Background flushes off: only the test's flushNow() calls post
+    private ScoreOutbox open() {
+        ScoreOutbox outbox = new ScoreOutbox(log, service, PRIVATE_CODE, false);
+        outbox.awaitWrites();
+        return outbox;
+    }
+
+    @Test
+    public void repeatedPostsCollapseToBestScorePerPlayer() throws Exception {
+        ScoreOutbox outbox = open();
+        outbox.submit("alice", 50, 30);
+        outbox.submit("alice", 80, 40);
+        outbox.submit("alice", 80, 20);
+        outbox.submit("alice", 60, 10);
+        outbox.submit("bob", 10, 5);
+        assertEquals(2, outbox.getQueueDepth());
+
+        server.enqueue(new MockResponse().setBody("OK"));
+        server.enqueue(new MockResponse().setBody("OK"));
+        assertTrue(outbox.flushNow());
+
+        Set<String> paths = new HashSet<>();
+        paths.add(server.takeRequest().getPath());
+        paths.add(server.takeRequest().getPath());
+        assertTrue(paths.contains("/lb/private/add/alice/80/20"));
+        assertTrue(paths.contains("/lb/private/add/bob/10/5"));
+        assertEquals(0, outbox.getQueueDepth());
+        assertEquals(2, outbox.getPostedCount());
+    }
+
+    @Test
+    public void pendingScoresSurviveRestart() throws Exception {
+        ScoreOutbox outbox = open();
+        outbox.submit("carol", 70, 12);
+        server.enqueue(new MockResponse().setResponseCode(500));
+        assertFalse(outbox.flushNow());
+        assertEquals(1, outbox.getFailedFlushCount());
+
+        // Simulated process death: a fresh outbox replays the log
+        ScoreOutbox restarted = open();
+        assertEquals(1, restarted.getQueueDepth());
+
+        server.enqueue(new MockResponse().setBody("OK"));
+        assertTrue(restarted.flushNow());
+        server.takeRequest(); // Failed attempt
+        assertEquals("/lb/private/add/carol/70/12", server.takeRequest().getPath());
+        assertEquals(0, open().getQueueDepth());
+    }
+
+    @Test
+    public void submitLeavesTheFileToTheDrainer() throws Exception {
+        ScoreOutbox outbox = open();
+        outbox.submit("frank", 20, 4);
+        assertEquals(1, outbox.getQueueDepth()); // Merged in memory on the caller thread
+        outbox.awaitWrites();
+        assertEquals(1, open().getQueueDepth());
+    }
+
+    @Test
+    public void tornTailIsDiscarded() throws Exception {
+        ScoreOutbox outbox = open();
+        outbox.submit("dave", 40, 8);
+        outbox.awaitWrites();
+        try (FileOutputStream out = new FileOutputStream(log, true)) {
+            out.write(new byte[]{0x53, 0x43, 0x00, 0x09, 'e', 'v'}); // Record cut off mid-write
+        }
+
+        ScoreOutbox restarted = open();
+        assertEquals(1, restarted.getQueueDepth());
+        restarted.submit("erin", 30, 6);
+        restarted.awaitWrites();
+        assertEquals(2, open().getQueueDepth());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.junit.Test;
+
+// Checks the one-pass dedupe against a straightforward filter on large payloads
+public class SynonymFilterTest {
+
+    @Test
+    public void countValidSkipsCaseInsensitiveDuplicatesAndTheSecret() {
+        List<String> synonyms = Arrays.asList("Glad", "glad", "happy", "HAPPY", "2x", "content", "GLAD", null, "joy ful");
+        assertEquals(3, SynonymFilter.countValid(synonyms, "happy"));
+    }
+
+    @Test
+    public void compactValidKeepsFirstSpellingInOriginalOrder() {
+        List<String> synonyms = new ArrayList<>(Arrays.asList("x1", "Glad", "content", "GLAD", "cheery", "Content"));
+        int kept = SynonymFilter.compactValid(synonyms, "happy");
+        assertEquals(3, kept);
+        assertEquals(Arrays.asList("Glad", "content", "cheery"), synonyms.subList(0, kept));
+    }
+
+    @Test
+    public void largePayloadsMatchTheNaiveFilter() {
+        List<String> synonyms = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            String word = "w" + Integer.toString(i % 700, 26).replaceAll("[0-9]", "q");
+            synonyms.add(i % 3 == 0 ? word.toUpperCase(Locale.ROOT) : i % 11 == 0 ? word + "!" : word);
+        }
+        List<String> expected = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String synonym : synonyms) {
+            if (SynonymFilter.isValidSynonym(synonym, "happy") && seen.add(synonym.toLowerCase(Locale.ROOT))) {
+                expected.add(synonym);
+            }
+        }
+        assertEquals(expected.size(), SynonymFilter.countValid(synonyms, "happy"));
+        int kept = SynonymFilter.compactValid(synonyms, "happy");
+        assertEquals(expected, synonyms.subList(0, kept));
+    }
+}
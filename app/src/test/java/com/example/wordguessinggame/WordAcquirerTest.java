@@ -0,0 +1,192 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+// Serial retry loop and speculative parallel acquisition against a local stand-in API
+public class WordAcquirerTest {
+    private static final long RESPONSE_DELAY_MS = 40;
+
+    private MockWebServer server;
+    private ApiService apiService;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new WordDispatcher());
+        server.start();
+
+        apiService = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(ApiService.class);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void parallelAcquisitionReturnsWordWithValidSynonyms() {
+        WordAcquirer acquirer = new WordAcquirer(apiService, new SynonymCache(null, 16, 0), null, null, 4, 5_000);
+
+        PreparedWord word = acquirer.acquire();
+
+        assertNotNull(word);
+        assertTrue(SynonymFilter.hasValidSynonyms(thesaurus(word), word.word));
+    }
+
+    @Test
+    public void fanOutOfOneKeepsSerialBehaviour() throws Exception {
+        server.setDispatcher(new WordDispatcher() {
+            @Override
+            boolean hasSynonyms(int n) {
+                return n == 2;
+            }
+        });
+        WordAcquirer acquirer = new WordAcquirer(apiService, new SynonymCache(null, 16, 0), null, null, 1, 5_000);
+
+        assertEquals("word2", acquirer.acquire().word);
+
+        // One candidate at a time: each word request is followed by the lookup for that word
+        assertEquals(6, server.getRequestCount());
+        for (int n = 0; n < 3; n++) {
+            assertTrue(server.takeRequest().getPath().endsWith("/v1/randomword"));
+            RecordedRequest lookup = server.takeRequest();
+            assertTrue(lookup.getRequestUrl().encodedPath().endsWith("/v1/thesaurus"));
+            assertEquals("word" + n, lookup.getRequestUrl().queryParameter("word"));
+        }
+    }
+
+    @Test
+    public void thesaurusErrorFailsTheAcquisitionInsteadOfRejectingTheWord() {
+        WordDispatcher dispatcher = new WordDispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                MockResponse response = super.dispatch(request);
+                return request.getRequestUrl().encodedPath().endsWith("/v1/thesaurus")
+                        ? new MockResponse().setResponseCode(429) : response;
+            }
+        };
+        server.setDispatcher(dispatcher);
+        WordAcquirer acquirer = new WordAcquirer(apiService, new SynonymCache(null, 16, 0), null, null, 1, 5_000);
+
+        assertNull(acquirer.acquire());
+        assertEquals(1, dispatcher.wordRequests.get());
+        assertEquals(1, dispatcher.thesaurusRequests.get());
+    }
+
+    @Test
+    public void parallelAcquisitionKeepsFanOutCandidatesInFlight() {
+        // Word requests are held until all four have arrived, so only overlapping candidates get through
+        CountDownLatch arrived = new CountDownLatch(4);
+        server.setDispatcher(new WordDispatcher() {
+            @Override
+            void onWordRequest() throws InterruptedException {
+                arrived.countDown();
+                arrived.await(5, TimeUnit.SECONDS);
+            }
+        });
+        WordAcquirer acquirer = new WordAcquirer(apiService, new SynonymCache(null, 16, 0), null, null, 4, 5_000);
+
+        assertNotNull(acquirer.acquire());
+        assertEquals(0, arrived.getCount());
+    }
+
+    @Test
+    public void losingCandidateStartsNoLookupOnceTheRaceIsOver() throws Exception {
+        // word1 is stuck between its two calls until the race has been won by word0
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch resumed = new CountDownLatch(1);
+        SynonymCache cache = new SynonymCache(null, 16, 0) {
+            @Override
+            public ThesaurusResponse get(String word) {
+                if (word.equals("word1")) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    resumed.countDown();
+                }
+                return null;
+            }
+        };
+        WordDispatcher dispatcher = new WordDispatcher() {
+            @Override
+            boolean hasSynonyms(int n) {
+                return true;
+            }
+        };
+        server.setDispatcher(dispatcher);
+        WordAcquirer acquirer = new WordAcquirer(apiService, cache, null, null, 2, 5_000);
+
+        assertEquals("word0", acquirer.acquire().word);
+        release.countDown();
+        assertTrue(resumed.await(5, TimeUnit.SECONDS));
+        Thread.sleep(4 * RESPONSE_DELAY_MS); // Time for a stray lookup to reach the server
+
+        assertEquals(2, dispatcher.wordRequests.get());
+        assertEquals(1, dispatcher.thesaurusRequests.get()); // Only the winner's
+    }
+
+    private static ThesaurusResponse thesaurus(PreparedWord word) {
+        ThesaurusResponse response = new ThesaurusResponse();
+        response.synonyms = word.synonyms;
+        return response;
+    }
+
+    // Serves numbered words; roughly a third of them have usable synonyms
+    private static class WordDispatcher extends Dispatcher {
+        private final AtomicInteger counter = new AtomicInteger();
+        final AtomicInteger wordRequests = new AtomicInteger();
+        final AtomicInteger thesaurusRequests = new AtomicInteger();
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            String path = request.getRequestUrl().encodedPath();
+            MockResponse response = new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBodyDelay(RESPONSE_DELAY_MS, TimeUnit.MILLISECONDS);
+
+            if (path.endsWith("/v1/randomword")) {
+                wordRequests.incrementAndGet();
+                onWordRequest();
+                return response.setBody("{\"word\":[\"word" + counter.getAndIncrement() + "\"]}");
+            }
+            if (path.endsWith("/v1/thesaurus")) {
+                thesaurusRequests.incrementAndGet();
+                String word = request.getRequestUrl().queryParameter("word");
+                int n = Integer.parseInt(word.substring("word".length()));
+                String synonyms = hasSynonyms(n) ? "[\"alpha\",\"beta gamma\"]" : "[]";
+                return response.setBody("{\"word\":\"" + word + "\",\"synonyms\":" + synonyms + "}");
+            }
+            return new MockResponse().setResponseCode(404);
+        }
+
+        void onWordRequest() throws InterruptedException {
+        }
+
+        boolean hasSynonyms(int n) {
+            return ((n * 2654435761L) >>> 8) % 3 == 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.wordguessinggame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.Test;
+
+// Word graph lookups and completions, plus the engine's one-time "not a word" bounce
+public class WordGraphTest {
+
+    // Built by the same encoder generateWordGraph runs
+    private static WordGraph graphOf(Collection<String> words) {
+        return new WordGraph(ByteBuffer.wrap(WordGraphBuilder.build(words)));
+    }
+
+    @Test
+    public void containsIsExactAndCaseInsensitive() {
+        WordGraph graph = graphOf(Arrays.asList("apple", "apply", "applet", "app", "banana"));
+        assertEquals(5, graph.size());
+        assertTrue(graph.contains("app"));
+        assertTrue(graph.contains("APPLE"));
+        assertTrue(graph.contains("applet"));
+        assertFalse(graph.contains("appl")); // Prefix, not a word
+        assertFalse(graph.contains("apples"));
+        assertFalse(graph.contains("ban ana"));
+        assertFalse(graph.contains(""));
+    }
+
+    @Test
+    public void completesInAlphabeticalOrderUpToTheLimit() {
+        WordGraph graph = graphOf(Arrays.asList("apple", "apply", "applet", "app", "apt", "banana"));
+        List<String> out = new ArrayList<>();
+        assertEquals(3, graph.complete("ap", 3, out));
+        assertEquals(Arrays.asList("app", "apple", "applet"), out);
+
+        out.clear();
+        graph.complete("APPL", 10, out);
+        assertEquals(Arrays.asList("apple", "applet", "apply"), out); // Only longer than the prefix
+
+        out.clear();
+        assertEquals(0, graph.complete("apt", 10, out));
+        assertEquals(0, graph.complete("x", 10, out));
+    }
+
+    @Test
+    public void randomVocabularyMatchesTheSet() {
+        Random random = new Random(3);
+        TreeSet<String> words = new TreeSet<>();
+        while (words.size() < 4000) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(9);
+            for (int i = 0; i < length; i++) word.append((char) ('a' + random.nextInt(8)));
+            words.add(word.toString());
+        }
+        WordGraph graph = graphOf(words);
+        assertTrue(graph.sizeInBytes() < words.size() * 8); // Shared prefixes and suffixes stored once
+
+        List<String> all = new ArrayList<>();
+        for (char c = 'a'; c <= 'z'; c++) graph.complete(String.valueOf(c), Integer.MAX_VALUE, all);
+        assertEquals(new ArrayList<>(words), all);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder probe = new StringBuilder();
+            int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; j++) probe.append((char) ('a' + random.nextInt(9)));
+            assertEquals(probe.toString(), words.contains(probe.toString()), graph.contains(probe));
+        }
+    }
+
+    @Test
+    public void engineBouncesAnUnknownGuessOnceWithoutSpendingAnAttempt() {
+        WordGraph graph = graphOf(Arrays.asList("apple", "grape"));
+        GameEngine engine = new GameEngine();
+        engine.setVocabulary(graph::contains);
+        engine.startWord("quince"); // The secret word itself need not be listed
+
+        assertEquals(GameEngine.GuessResult.NOT_A_WORD, engine.submitGuess("aplpe"));
+        assertEquals(GameEngine.START_ATTEMPTS, engine.getAttemptsLeft());
+        assertEquals(GameEngine.GuessResult.INCORRECT, engine.submitGuess(" APLPE ")); // Insisting scores it
+        assertEquals(GameEngine.GuessResult.INCORRECT, engine.submitGuess("grape"));
+        assertEquals(GameEngine.START_ATTEMPTS - 2, engine.getAttemptsLeft());
+        assertEquals(GameEngine.GuessResult.CORRECT, engine.submitGuess("quince"));
+    }
+}
@@ -0,0 +1,117 @@
+// Pure-JVM JMH suite for the game's Android-free hot paths.
+// Run with: ./gradlew :benchmark:jmh :benchmark:jmhCheckRegression
+// Re-record the baseline (on the reference machine) with: ./gradlew :benchmark:jmh :benchmark:jmhRecordBaseline
+import groovy.json.JsonSlurper
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// Compile the Android-free app classes under test straight from :app's sources
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf("../app/src/main/java"))
+            include(
+                "com/example/wordguessinggame/CandidateIndex.java",
+                "com/example/wordguessinggame/DifficultyIndex.java",
+                "com/example/wordguessinggame/GameEngine.java",
+                "com/example/wordguessinggame/GuessFeedback.java",
+                "com/example/wordguessinggame/LeaderboardKeys.java",
+                "com/example/wordguessinggame/LeaderboardParser.java",
+                "com/example/wordguessinggame/LeaderboardRows.java",
+                "com/example/wordguessinggame/RandomWordResponse.java",
+                "com/example/wordguessinggame/SynonymFilter.java",
+                "com/example/wordguessinggame/ThesaurusResponse.java",
+                "com/example/wordguessinggame/WordDifficulty.java",
+                "com/example/wordguessinggame/WordGraph.java",
+                "com/example/wordguessinggame/WordProfile.java",
+            )
+        }
+    }
+}
+
+dependencies {
+    implementation(libs.gson)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    fork.set(1)
+    profilers.add("gc") // Reports allocation per operation alongside the timings
+    resultFormat.set("JSON")
+    // WordGraphBenchmark reads the guess vocabulary generated by :app
+    jvmArgsAppend.add("-Dwordgraph.asset=" + rootProject.file("app/build/generated/wordgraph/assets/words.dawg"))
+}
+
+tasks.named("jmh") { dependsOn(":app:generateWordGraph") }
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline/jmh-baseline.json")
+
+// Benchmark id -> (mode, score); params are part of the id
+fun readJmhScores(file: File): Map<String, Pair<String, Double>> {
+    @Suppress("UNCHECKED_CAST")
+    val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+    return runs.associate { run ->
+        @Suppress("UNCHECKED_CAST")
+        val params = (run["params"] as Map<String, Any?>?)?.toSortedMap()?.toString() ?: ""
+        @Suppress("UNCHECKED_CAST")
+        val metric = run["primaryMetric"] as Map<String, Any?>
+        "${run["benchmark"]}$params" to Pair(run["mode"] as String, (metric["score"] as Number).toDouble())
+    }
+}
+
+tasks.register<Copy>("jmhRecordBaseline") {
+    description = "Copies the latest JMH results over the checked-in baseline."
+    group = "benchmark"
+    mustRunAfter("jmh")
+    from(jmhResults)
+    into(jmhBaseline.asFile.parentFile)
+    rename { jmhBaseline.asFile.name }
+}
+
+tasks.register("jmhCheckRegression") {
+    description = "Fails if a benchmark got slower than the baseline by more than -PjmhRegressionThreshold (default 0.15)."
+    group = "verification"
+    mustRunAfter("jmh")
+    val threshold = (findProperty("jmhRegressionThreshold") as String?)?.toDouble() ?: 0.15
+    val resultsFile = jmhResults.get().asFile
+    val baselineFile = jmhBaseline.asFile
+    doLast {
+        if (!resultsFile.exists()) {
+            throw GradleException("No JMH results at $resultsFile; run :benchmark:jmh first")
+        }
+        if (!baselineFile.exists()) {
+            logger.warn("No JMH baseline at $baselineFile; skipping regression check")
+            return@doLast
+        }
+        val baseline = readJmhScores(baselineFile)
+        val results = readJmhScores(resultsFile)
+        val regressions = mutableListOf<String>()
+        // A benchmark that was renamed, dropped or failed to run would otherwise pass silently
+        baseline.keys.filterNot { it in results }.forEach { id -> regressions += "$id missing from the results" }
+        results.forEach { (id, current) ->
+            val before = baseline[id] ?: return@forEach
+            // Throughput: higher is better; every time-per-op mode: lower is better
+            val slowdown = if (current.first == "thrpt") before.second / current.second - 1
+                           else current.second / before.second - 1
+            val line = String.format("%-90s %12.3f -> %12.3f (%+.1f%%)", id, before.second, current.second, slowdown * 100)
+            if (slowdown > threshold) regressions += line else logger.lifecycle(line)
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException("Benchmarks missing or slower than baseline by more than ${threshold * 100}%:\n" +
+                    regressions.joinToString("\n"))
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.CandidateIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// "N words still match": cost of one hint (a bitset AND plus a popcount) over small and very large vocabularies
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CandidateIndexBenchmark {
+
+    @Param({"2000", "300000"})
+    public int words;
+
+    private CandidateIndex index;
+    private CandidateIndex.Candidates candidates;
+
+    @Setup
+    public void build() {
+        Random random = new Random(42);
+        List<String> vocabulary = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(10);
+            for (int j = 0; j < length; j++) word.append((char) ('a' + random.nextInt(26)));
+            vocabulary.add(word.toString());
+        }
+        index = new CandidateIndex(vocabulary);
+        candidates = index.newRound("gratitude");
+    }
+
+    // One letter-check hint and the recount shown after it
+    @Benchmark
+    public int letterHintAndCount() {
+        candidates.matchLetterCount('e', 1);
+        return candidates.count();
+    }
+
+    // A whole round: fresh candidate set, length hint, two letter hints, a wrong guess, recount after each
+    @Benchmark
+    public int roundOfHints() {
+        CandidateIndex.Candidates round = index.newRound("gratitude");
+        round.matchLength(9);
+        int shown = round.count();
+        round.matchLetterCount('t', 2);
+        shown += round.count();
+        round.matchLetterCount('s', 0);
+        shown += round.count();
+        round.exclude("latitudes");
+        return shown + round.count();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.DifficultyIndex;
+import com.example.wordguessinggame.WordDifficulty;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Band selection and re-scoring on pools far larger than the bundled dictionary; both should stay flat
+// as the pool grows
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DifficultyIndexBenchmark {
+
+    @Param({"1000", "300000"})
+    public int words;
+
+    private DifficultyIndex index;
+    private Random random;
+    private int band;
+
+    @Setup
+    public void buildIndex() {
+        random = new Random(11);
+        float[] scores = new float[words];
+        for (int id = 0; id < words; id++) {
+            scores[id] = WordDifficulty.score(randomWord(random), random.nextInt(10),
+                    random.nextInt(4), random.nextInt(3));
+        }
+        index = new DifficultyIndex(scores, DifficultyIndex.DEFAULT_BANDS, DifficultyIndex.DEFAULT_RECENT, random);
+    }
+
+    @Benchmark
+    public int selectRampingBand() {
+        band = (band + 1) % index.bandCount();
+        return index.select(band);
+    }
+
+    @Benchmark
+    public int rescoreAfterRound() {
+        int id = random.nextInt(words);
+        index.update(id, random.nextFloat());
+        return index.bandOf(id);
+    }
+
+    private static String randomWord(Random random) {
+        char[] letters = new char[4 + random.nextInt(9)];
+        for (int i = 0; i < letters.length; i++) letters[i] = (char) ('a' + random.nextInt(26));
+        return new String(letters);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.GameEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+// Guess evaluation through the engine: serving a word, then missing twice and hitting
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class GameEngineBenchmark {
+
+    @Param({"cat", "extraordinary"})
+    public String secret;
+
+    private final GameEngine engine = new GameEngine();
+
+    // Per-word setup alone (builds the WordProfile); subtract from playWordToWin for guess cost
+    @Benchmark
+    public GameEngine.Phase startWord() {
+        engine.newRound();
+        engine.startWord(secret);
+        return engine.getPhase();
+    }
+
+    @Benchmark
+    public int playWordToWin() {
+        engine.newRound();
+        engine.startWord(secret);
+        engine.submitGuess("  Wrong ");
+        engine.submitGuess("ALMOST");
+        engine.submitGuess(secret);
+        return engine.getScore();
+    }
+
+    @Benchmark
+    public int checkEveryLetter() {
+        engine.newRound();
+        engine.startWord(secret);
+        for (char c = 'a'; c <= 'z'; c++) {
+            engine.checkLetter(c);
+        }
+        return engine.getProfile().getCheckedMask();
+    }
+}
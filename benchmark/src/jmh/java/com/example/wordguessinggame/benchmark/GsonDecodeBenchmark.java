@@ -0,0 +1,84 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.LeaderboardParser;
+import com.example.wordguessinggame.RandomWordResponse;
+import com.example.wordguessinggame.ThesaurusResponse;
+import com.google.gson.Gson;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Response decoding at realistic sizes: one random word, a thesaurus entry, one leaderboard page
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class GsonDecodeBenchmark {
+    private static final int PAGE_ROWS = 25; // LeaderboardPager.DEFAULT_PAGE_SIZE
+
+    private final Gson gson = new Gson();
+    private byte[] randomWord;
+    private byte[] thesaurus;
+    private byte[] leaderboardPage;
+
+    @Setup
+    public void loadPayloads() throws IOException {
+        randomWord = "{\"word\": [\"Serendipity\"]}".getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = getClass().getResourceAsStream("/thesaurus/happy.json")) {
+            thesaurus = in.readAllBytes();
+        }
+        StringBuilder json = new StringBuilder("{\"dreamlo\":{\"leaderboard\":{\"entry\":[");
+        for (int i = 0; i < PAGE_ROWS; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"name\":\"player").append(i)
+                    .append("\",\"score\":\"").append(500 - i)
+                    .append("\",\"seconds\":\"").append(30 + i)
+                    .append("\",\"text\":\"\",\"date\":\"10/18/2026 3:14:15 PM\"}");
+        }
+        leaderboardPage = json.append("]}}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Reader reader(byte[] payload) {
+        return new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String randomWordResponse() throws IOException {
+        try (Reader reader = reader(randomWord)) {
+            return gson.fromJson(reader, RandomWordResponse.class).getWord();
+        }
+    }
+
+    @Benchmark
+    public int thesaurusResponse() throws IOException {
+        try (Reader reader = reader(thesaurus)) {
+            return gson.fromJson(reader, ThesaurusResponse.class).synonyms.size();
+        }
+    }
+
+    // The reflective DreamloResponse model the app used to bind
+    @Benchmark
+    public int dreamloResponseGson() throws IOException {
+        try (Reader reader = reader(leaderboardPage)) {
+            return gson.fromJson(reader, LegacyDreamloResponse.class).dreamlo.leaderboard.entry.size();
+        }
+    }
+
+    // What the app does now (LeaderboardConverterFactory)
+    @Benchmark
+    public int dreamloResponseStreaming() throws IOException {
+        try (Reader reader = reader(leaderboardPage)) {
+            return LeaderboardParser.parse(reader, (name, score, seconds) -> { });
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.GuessFeedback;
+import com.example.wordguessinggame.WordProfile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Per-keystroke near-miss feedback: Myers bit-parallel distance plus shared letters, measured on a
+// StringBuilder the way the guess field's Editable grows, vs. a textbook allocating DP
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class GuessFeedbackBenchmark {
+
+    @Param({"cat", "mississippi", "extraordinary"})
+    public String word;
+
+    private GuessFeedback feedback;
+    private final StringBuilder typed = new StringBuilder();
+    private String guess;
+    private int keystroke;
+
+    @Setup
+    public void prepare() {
+        feedback = new GuessFeedback(new WordProfile(word));
+        // A near miss: the word with two letters swapped and one dropped
+        StringBuilder miss = new StringBuilder(word);
+        char first = miss.charAt(0);
+        miss.setCharAt(0, miss.charAt(1));
+        miss.setCharAt(1, first);
+        miss.deleteCharAt(miss.length() - 1);
+        guess = miss.toString();
+    }
+
+    // One keystroke: the field grows by a letter (restarting once the guess is typed) and is re-measured
+    @Benchmark
+    public int keystroke() {
+        if (keystroke == guess.length()) {
+            typed.setLength(0);
+            keystroke = 0;
+        }
+        typed.append(guess.charAt(keystroke++));
+        feedback.measure(typed);
+        return feedback.getDistance() + feedback.getSharedLetters();
+    }
+
+    @Benchmark
+    public int measureFullGuess() {
+        feedback.measure(guess);
+        return feedback.getDistance() + feedback.getSharedLetters();
+    }
+
+    @Benchmark
+    public int dynamicProgrammingFullGuess() {
+        int[][] d = new int[word.length() + 1][guess.length() + 1];
+        for (int i = 0; i <= word.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= guess.length(); j++) d[0][j] = j;
+        for (int i = 1; i <= word.length(); i++) {
+            for (int j = 1; j <= guess.length(); j++) {
+                int cost = word.charAt(i - 1) == guess.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j], d[i][j - 1]) + 1, d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[word.length()][guess.length()];
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.LeaderboardRows;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// The adapter's side of a leaderboard refresh: keying and id lookup for the fresh board on the diff thread,
+// and the DiffUtil callbacks over an unchanged stretch (the snake DiffUtil walks before any edit).
+// DiffUtil itself ships in an AAR and can't load in this plain-JVM module.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LeaderboardDiffBenchmark {
+
+    // Stand-in for LeaderboardActivity.LeaderboardEntry, which lives in an Activity
+    static final class Row {
+        final String name;
+        final int score;
+        final int seconds;
+
+        Row(String name, int score, int seconds) {
+            this.name = name;
+            this.score = score;
+            this.seconds = seconds;
+        }
+    }
+
+    private static final LeaderboardRows.Fields<Row> FIELDS = new LeaderboardRows.Fields<Row>() {
+        @Override
+        public String name(Row row) { return row.name; }
+
+        @Override
+        public int score(Row row) { return row.score; }
+
+        @Override
+        public int seconds(Row row) { return row.seconds; }
+    };
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private LeaderboardRows.IdRegistry registry;
+    private List<Row> board;
+    private LeaderboardRows<Row> shown;
+    private LeaderboardRows<Row> refreshed;
+
+    @Setup
+    public void buildBoards() {
+        Random random = new Random(5);
+        board = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // Roughly one name in five repeats, so ordinals are part of the keys
+            String name = "player" + random.nextInt(rows * 4 / 5 + 1);
+            board.add(new Row(name, 10_000 - i * 7, 30 + random.nextInt(600)));
+        }
+        registry = new LeaderboardRows.IdRegistry();
+        shown = LeaderboardRows.of(board, FIELDS, registry);
+        refreshed = LeaderboardRows.of(new ArrayList<>(board), FIELDS, registry);
+    }
+
+    // buildRows() on a refresh: every key is already registered
+    @Benchmark
+    public LeaderboardRows<Row> rebuildRows() {
+        return LeaderboardRows.of(board, FIELDS, registry);
+    }
+
+    // areItemsTheSame + areContentsTheSame for each row of an unchanged board
+    @Benchmark
+    public int compareUnchanged() {
+        int same = 0;
+        for (int i = 0, n = shown.size(); i < n; i++) {
+            if (shown.sameItem(i, refreshed, i) && shown.sameContents(i, refreshed, i)) same++;
+        }
+        return same;
+    }
+}
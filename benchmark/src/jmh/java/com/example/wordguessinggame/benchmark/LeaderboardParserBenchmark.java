@@ -0,0 +1,95 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.LeaderboardParser;
+import com.google.gson.Gson;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Gson object-tree binding vs. the streaming JsonReader decoder on synthetic Dreamlo boards.
+// Allocation per op comes from the gc profiler configured in build.gradle.kts (gc.alloc.rate.norm).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LeaderboardParserBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int rows;
+
+    private final Gson gson = new Gson();
+    private byte[] payload;
+
+    // Row kept by the streaming path: only the fields the adapter renders
+    static final class Row {
+        final String name;
+        final int score;
+        final int seconds;
+
+        Row(String name, int score, int seconds) {
+            this.name = name;
+            this.score = score;
+            this.seconds = seconds;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void buildPayload() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder(rows * 96 + 64);
+        json.append("{\"dreamlo\":{\"leaderboard\":{\"entry\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) json.append(',');
+            // Dreamlo quotes every value and always sends text and date
+            json.append("{\"name\":\"player").append(i)
+                    .append("\",\"score\":\"").append(100_000 - i)
+                    .append("\",\"seconds\":\"").append(random.nextInt(600))
+                    .append("\",\"text\":\"\",\"date\":\"10/18/2026 3:14:15 PM\"}");
+        }
+        json.append("]}}}");
+        payload = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Reader reader() {
+        return new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int gsonTreeBinding() throws IOException {
+        try (Reader reader = reader()) {
+            LegacyDreamloResponse response = gson.fromJson(reader, LegacyDreamloResponse.class);
+            return response.dreamlo.leaderboard.entry.size();
+        }
+    }
+
+    @Benchmark
+    public int streamingIntoList() throws IOException {
+        List<Row> list = new ArrayList<>();
+        try (Reader reader = reader()) {
+            LeaderboardParser.parse(reader, (name, score, seconds) -> list.add(new Row(name, score, seconds)));
+        }
+        return list.size();
+    }
+
+    // Decoder cost alone, with a sink that keeps nothing
+    @Benchmark
+    public int streamingCountOnly() throws IOException {
+        try (Reader reader = reader()) {
+            return LeaderboardParser.parse(reader, (name, score, seconds) -> { });
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.wordguessinggame.benchmark;
+
+import java.util.List;
+
+// Copy of the reflective Dreamlo model the app bound with Gson before the streaming parser, kept as a baseline
+public class LegacyDreamloResponse {
+    public Leaderboard dreamlo;
+
+    public static class Leaderboard {
+        public LeaderboardEntries leaderboard;
+    }
+
+    public static class LeaderboardEntries {
+        public List<LeaderboardEntry> entry;
+    }
+
+    public static class LeaderboardEntry {
+        public String name;
+        public int score;
+        public int seconds;
+        public String text;
+        public String date;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.ThesaurusResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Regex-based synonym filter as it shipped in GameActivity, kept as the benchmark baseline
+final class LegacySynonymFilter {
+
+    private LegacySynonymFilter() {
+    }
+
+    static boolean hasValidSynonyms(ThesaurusResponse response, String secretWord) {
+        return response != null &&
+                response.synonyms != null &&
+                !filterValidSynonyms(response.synonyms, secretWord).isEmpty();
+    }
+
+    static List<String> filterValidSynonyms(List<String> synonyms, String secretWord) {
+        List<String> valid = new ArrayList<>();
+        for (String syn : synonyms) {
+            if (isValidSynonym(syn, secretWord)) {
+                valid.add(syn);
+            }
+        }
+        return valid;
+    }
+
+    // filterValidSynonyms plus the case-insensitive dedupe SynonymFilter.countValid does,
+    // so the two benchmarks do the same work
+    static List<String> filterDistinctValidSynonyms(List<String> synonyms, String secretWord) {
+        List<String> distinct = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String syn : filterValidSynonyms(synonyms, secretWord)) {
+            if (seen.add(syn.toLowerCase(Locale.ROOT))) {
+                distinct.add(syn);
+            }
+        }
+        return distinct;
+    }
+
+    static boolean isValidSynonym(String synonym, String secretWord) {
+        return synonym != null &&
+                !synonym.trim().isEmpty() &&
+                !synonym.equalsIgnoreCase(secretWord) &&
+                synonym.matches("^[a-zA-Z-']+(\\s+[a-zA-Z-']+)*$");
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.WordProfile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Letter-check hint: the old per-request chars() stream vs. the precomputed WordProfile histogram
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LetterCountBenchmark {
+
+    @Param({"cat", "mississippi", "extraordinary"})
+    public String word;
+
+    private WordProfile profile;
+
+    @Setup
+    public void buildProfile() {
+        profile = new WordProfile(word);
+    }
+
+    // Copy of the counting GameActivity did before WordProfile
+    private static int legacyCount(String secretWord, char letter) {
+        return (int) secretWord.chars()
+                .filter(c -> c == letter)
+                .count();
+    }
+
+    @Benchmark
+    public void legacyCountAlphabet(Blackhole bh) {
+        for (char c = 'a'; c <= 'z'; c++) {
+            bh.consume(legacyCount(word, c));
+        }
+    }
+
+    @Benchmark
+    public void profileCountAlphabet(Blackhole bh) {
+        for (char c = 'a'; c <= 'z'; c++) {
+            bh.consume(profile.count(c));
+        }
+    }
+
+    @Benchmark
+    public WordProfile buildWordProfile() {
+        return new WordProfile(word);
+    }
+}
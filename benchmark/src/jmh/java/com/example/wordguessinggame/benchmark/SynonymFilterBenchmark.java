@@ -0,0 +1,94 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.SynonymFilter;
+import com.example.wordguessinggame.ThesaurusResponse;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Regex filter vs. single-pass scanner on thesaurus payloads of different sizes
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SynonymFilterBenchmark {
+
+    @Param({"happy", "run"})
+    public String payload;
+
+    private ThesaurusResponse response;
+    private String secretWord;
+    private List<String> working;
+
+    @Setup(Level.Trial)
+    public void loadPayload() throws IOException {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/thesaurus/" + payload + ".json"), StandardCharsets.UTF_8)) {
+            response = new Gson().fromJson(reader, ThesaurusResponse.class);
+        }
+        secretWord = payload;
+        working = new ArrayList<>(response.synonyms);
+    }
+
+    // Restore the original order before each iteration's in-place passes
+    @Setup(Level.Iteration)
+    public void resetWorkingList() {
+        working.clear();
+        working.addAll(response.synonyms);
+    }
+
+    @Benchmark
+    public boolean legacyHasValidSynonyms() {
+        return LegacySynonymFilter.hasValidSynonyms(response, secretWord);
+    }
+
+    @Benchmark
+    public boolean scannerHasValidSynonyms() {
+        return SynonymFilter.hasValidSynonyms(response, secretWord);
+    }
+
+    @Benchmark
+    public int legacyFilterAll() {
+        return LegacySynonymFilter.filterDistinctValidSynonyms(response.synonyms, secretWord).size();
+    }
+
+    @Benchmark
+    public int scannerCountValid() {
+        return SynonymFilter.countValid(response.synonyms, secretWord);
+    }
+
+    @Benchmark
+    public void legacyIsValidEach(Blackhole bh) {
+        for (String synonym : response.synonyms) {
+            bh.consume(LegacySynonymFilter.isValidSynonym(synonym, secretWord));
+        }
+    }
+
+    @Benchmark
+    public void scannerIsValidEach(Blackhole bh) {
+        for (int i = 0, n = response.synonyms.size(); i < n; i++) {
+            bh.consume(SynonymFilter.isValidSynonym(response.synonyms.get(i), secretWord));
+        }
+    }
+
+    // Tip path: compact + rank in place (idempotent after the first call of an iteration)
+    @Benchmark
+    public int scannerCompactAndRank() {
+        int valid = SynonymFilter.compactValid(working, secretWord);
+        return SynonymFilter.rankForHints(working, valid, secretWord);
+    }
+}
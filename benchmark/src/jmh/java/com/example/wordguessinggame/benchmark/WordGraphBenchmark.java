@@ -0,0 +1,74 @@
+package com.example.wordguessinggame.benchmark;
+
+import com.example.wordguessinggame.WordGraph;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Spell-check and completion on the generated guess vocabulary (words.dawg from :app:generateWordGraph),
+// against a HashSet<String> of the same words
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class WordGraphBenchmark {
+
+    private WordGraph graph;
+    private Set<String> hashSet;
+    private final StringBuilder typed = new StringBuilder("grat");
+    private final List<String> completions = new ArrayList<>();
+
+    @Setup
+    public void load() throws IOException {
+        byte[] data = Files.readAllBytes(Paths.get(System.getProperty("wordgraph.asset")));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data).flip();
+        graph = new WordGraph(buffer);
+        List<String> words = new ArrayList<>();
+        for (char c = 'a'; c <= 'z'; c++) {
+            if (graph.contains(String.valueOf(c))) words.add(String.valueOf(c));
+            graph.complete(String.valueOf(c), Integer.MAX_VALUE, words);
+        }
+        hashSet = new HashSet<>(words);
+    }
+
+    @Benchmark
+    public boolean graphContainsWord() {
+        return graph.contains("grateful");
+    }
+
+    @Benchmark
+    public boolean graphContainsMisspelling() {
+        return graph.contains("gratefull");
+    }
+
+    // What the guess field's Editable costs per check: no String is built
+    @Benchmark
+    public boolean graphContainsTypedText() {
+        return graph.contains(typed);
+    }
+
+    @Benchmark
+    public boolean hashSetContainsTypedText() {
+        return hashSet.contains(typed.toString().toLowerCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public int graphCompleteThree() {
+        completions.clear();
+        return graph.complete(typed, 3, completions);
+    }
+}
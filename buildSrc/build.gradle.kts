@@ -0,0 +1,14 @@
+// Build-time helpers shared with the app: compiled straight from :app's sources so the Gradle tasks
+// and the unit tests run the same code
+plugins {
+    java
+}
+
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf("../app/src/main/java"))
+            include("com/example/wordguessinggame/WordGraphBuilder.java")
+        }
+    }
+}
@@ -24,3 +24,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "Word Guessing Game"
 include(":app")
+include(":benchmark")
+include(":simulator")
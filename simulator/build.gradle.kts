@@ -0,0 +1,34 @@
+// Headless game simulations on top of :app's Android-free GameEngine.
+// Run with: ./gradlew :simulator:run --args="--games 1000000 --strategy all"
+plugins {
+    application
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// Compile the engine straight from :app's sources next to the harness
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf("src/main/java", "../app/src/main/java"))
+            include(
+                "com/example/wordguessinggame/simulator/**",
+                "com/example/wordguessinggame/GameEngine.java",
+                "com/example/wordguessinggame/GuessFeedback.java",
+                "com/example/wordguessinggame/WordProfile.java",
+            )
+        }
+    }
+}
+
+application {
+    mainClass.set("com.example.wordguessinggame.simulator.Simulation")
+}
+
+// Resolve the default word list path against the project root
+tasks.named<JavaExec>("run") {
+    workingDir = rootDir
+}
@@ -0,0 +1,11 @@
+package com.example.wordguessinggame.simulator;
+
+import com.example.wordguessinggame.GameEngine;
+import java.util.SplittableRandom;
+
+// An automated player: makes hint and guess calls on the engine until the word is won or lost
+public interface PlayerStrategy {
+    String name();
+
+    void play(GameEngine engine, WordList words, SplittableRandom random);
+}
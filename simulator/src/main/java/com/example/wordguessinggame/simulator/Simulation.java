@@ -0,0 +1,73 @@
+package com.example.wordguessinggame.simulator;
+
+import com.example.wordguessinggame.GameEngine;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+// Plays many automated games per strategy on every core and prints balance figures and throughput.
+// Args: --games N (default 1000000), --strategy name|all, --seed S, --words path
+public final class Simulation {
+    private static final String DEFAULT_WORDS = "app/src/main/dictionary/words.txt";
+
+    private Simulation() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long games = 1_000_000;
+        String strategyName = "all";
+        long seed = 42;
+        Path wordsPath = Paths.get(DEFAULT_WORDS);
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games":
+                    games = Long.parseLong(args[i + 1]);
+                    break;
+                case "--strategy":
+                    strategyName = args[i + 1];
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                case "--words":
+                    wordsPath = Paths.get(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        WordList words = WordList.load(wordsPath);
+        List<PlayerStrategy> strategies = strategyName.equals("all")
+                ? Strategies.all() : Collections.singletonList(Strategies.byName(strategyName));
+        int threads = ForkJoinPool.commonPool().getParallelism() + 1; // Workers plus the calling thread
+        System.out.println("words=" + words.size() + " games/strategy=" + games + " threads=" + threads);
+
+        for (PlayerStrategy strategy : strategies) {
+            long start = System.nanoTime();
+            SimulationStats stats = run(strategy, words, games, seed);
+            System.out.println(stats.describe(strategy.name(), System.nanoTime() - start, threads));
+        }
+    }
+
+    // Each game gets its own seeded random, so results don't depend on how the work was split
+    public static SimulationStats run(PlayerStrategy strategy, WordList words, long games, long seed) {
+        return LongStream.range(0, games).parallel().collect(SimulationStats::new,
+                (stats, game) -> playOne(strategy, words, new SplittableRandom(seed ^ (game * 0x9E3779B97F4A7C15L)), stats),
+                SimulationStats::merge);
+    }
+
+    private static void playOne(PlayerStrategy strategy, WordList words, SplittableRandom random,
+                                SimulationStats stats) {
+        GameEngine engine = new GameEngine();
+        engine.startWord(words.word(random.nextInt(words.size())));
+        strategy.play(engine, words, random);
+        stats.add(engine.getPhase() == GameEngine.Phase.WON, engine.getScore(),
+                GameEngine.START_ATTEMPTS - engine.getAttemptsLeft());
+    }
+}
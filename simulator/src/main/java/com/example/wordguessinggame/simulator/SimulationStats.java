@@ -0,0 +1,47 @@
+package com.example.wordguessinggame.simulator;
+
+import java.util.Locale;
+
+// Mutable per-thread tallies, merged at the end of a parallel run
+public final class SimulationStats {
+    private long games;
+    private long wins;
+    private long scoreSum;
+    private long winningScoreSum;
+    private long guessSum;
+
+    public void add(boolean won, int finalScore, int guesses) {
+        games++;
+        scoreSum += finalScore;
+        guessSum += guesses;
+        if (won) {
+            wins++;
+            winningScoreSum += finalScore;
+        }
+    }
+
+    public void merge(SimulationStats other) {
+        games += other.games;
+        wins += other.wins;
+        scoreSum += other.scoreSum;
+        winningScoreSum += other.winningScoreSum;
+        guessSum += other.guessSum;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public String describe(String strategy, long elapsedNanos, int threads) {
+        double seconds = elapsedNanos / 1e9;
+        return String.format(Locale.US,
+                "%-8s games=%d threads=%d win=%.1f%% avgScore=%.1f avgWinScore=%.1f avgGuesses=%.2f "
+                        + "time=%.2fs rate=%.0f games/s",
+                strategy, games, threads,
+                games == 0 ? 0 : 100.0 * wins / games,
+                games == 0 ? 0 : (double) scoreSum / games,
+                wins == 0 ? 0 : (double) winningScoreSum / wins,
+                games == 0 ? 0 : (double) guessSum / games,
+                seconds, seconds == 0 ? 0 : games / seconds);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.wordguessinggame.simulator;
+
+import com.example.wordguessinggame.GameEngine;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Built-in players, from blind guessing to spending every hint the rules allow
+public final class Strategies {
+    private Strategies() {
+    }
+
+    public static List<PlayerStrategy> all() {
+        return Arrays.asList(
+                new Narrowing("random", false, 0, false),
+                new Narrowing("length", true, 0, false),
+                new Narrowing("letters", true, 2, false),
+                new Narrowing("tipper", true, 0, true),
+                new Narrowing("greedy", true, 2, true));
+    }
+
+    public static PlayerStrategy byName(String name) {
+        for (PlayerStrategy strategy : all()) {
+            if (strategy.name().equals(name)) return strategy;
+        }
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+
+    // Buys the configured hints, drops candidates they rule out, then guesses uniformly among the rest
+    static final class Narrowing implements PlayerStrategy {
+        private final String name;
+        private final boolean revealLength;
+        private final int letterChecks;
+        private final boolean useTip;
+
+        Narrowing(String name, boolean revealLength, int letterChecks, boolean useTip) {
+            this.name = name;
+            this.revealLength = revealLength;
+            this.letterChecks = letterChecks;
+            this.useTip = useTip;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void play(GameEngine engine, WordList words, SplittableRandom random) {
+            int[] candidates = new int[words.size()];
+            int size = candidates.length;
+            for (int i = 0; i < size; i++) candidates[i] = i;
+
+            if (revealLength && engine.revealLength() == GameEngine.HintResult.GRANTED) {
+                int length = engine.getProfile().getLength();
+                int kept = 0;
+                for (int i = 0; i < size; i++) {
+                    if (words.word(candidates[i]).length() == length) candidates[kept++] = candidates[i];
+                }
+                size = kept;
+            }
+
+            for (int check = 0; check < letterChecks && size > 1; check++) {
+                int letter = bestSplitLetter(words, candidates, size);
+                if (letter < 0 || engine.checkLetter((char) ('a' + letter)) != GameEngine.HintResult.GRANTED) break;
+                int count = engine.getProfile().checkedCount((char) ('a' + letter));
+                int kept = 0;
+                for (int i = 0; i < size; i++) {
+                    if (words.letterCount(candidates[i], letter) == count) candidates[kept++] = candidates[i];
+                }
+                size = kept;
+            }
+
+            while (engine.getPhase() == GameEngine.Phase.PLAYING && size > 0) {
+                if (useTip && engine.isTipUnlocked() && !engine.isTipUsed()
+                        && engine.requestTip() == GameEngine.HintResult.GRANTED) {
+                    // Stands in for the synonym the tip view would display
+                    String synonym = words.randomSynonym(engine.getSecretWord(), random);
+                    if (synonym != null) {
+                        int kept = 0;
+                        for (int i = 0; i < size; i++) {
+                            if (words.hasSynonym(candidates[i], synonym)) candidates[kept++] = candidates[i];
+                        }
+                        size = kept;
+                        if (size == 0) break;
+                    }
+                    if (engine.getPhase() != GameEngine.Phase.PLAYING) break;
+                }
+                int pick = random.nextInt(size);
+                String guess = words.word(candidates[pick]);
+                candidates[pick] = candidates[--size];
+                engine.submitGuess(guess);
+            }
+
+            // Out of candidates (secret not in the list): burn the remaining attempts
+            while (engine.getPhase() == GameEngine.Phase.PLAYING) {
+                engine.submitGuess("?");
+            }
+        }
+
+        // Letter whose presence splits the remaining candidates closest to half, or -1 if none splits them
+        private static int bestSplitLetter(WordList words, int[] candidates, int size) {
+            int best = -1;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int letter = 0; letter < 26; letter++) {
+                int containing = 0;
+                for (int i = 0; i < size; i++) {
+                    if (words.letterCount(candidates[i], letter) > 0) containing++;
+                }
+                if (containing == 0 || containing == size) continue;
+                int distance = Math.abs(size - 2 * containing);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = letter;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.wordguessinggame.simulator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+// Playable words and their synonyms, parsed from the same word list the app bundles
+public final class WordList {
+    private final String[] words;
+    private final String[][] synonyms;
+    private final int[][] histograms;
+    private final Map<String, Integer> indexByWord = new HashMap<>();
+
+    private WordList(List<String> words, List<String[]> synonyms) {
+        this.words = words.toArray(new String[0]);
+        this.synonyms = synonyms.toArray(new String[0][]);
+        this.histograms = new int[this.words.length][];
+        for (int i = 0; i < this.words.length; i++) {
+            histograms[i] = histogramOf(this.words[i]);
+            indexByWord.put(this.words[i], i);
+        }
+    }
+
+    // Format: "word: synonym, synonym, ..." with # comments
+    public static WordList load(Path path) throws IOException {
+        List<String> words = new ArrayList<>();
+        List<String[]> synonyms = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                int colon = line.indexOf(':');
+                String word = (colon < 0 ? line : line.substring(0, colon)).trim().toLowerCase(Locale.ROOT);
+                String[] syns = colon < 0 ? new String[0]
+                        : Arrays.stream(line.substring(colon + 1).split(","))
+                                .map(String::trim).filter(s -> !s.isEmpty()).toArray(String[]::new);
+                words.add(word);
+                synonyms.add(syns);
+            }
+        }
+        if (words.isEmpty()) throw new IOException("No words in " + path);
+        return new WordList(words, synonyms);
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public String word(int index) {
+        return words[index];
+    }
+
+    // Occurrences of letter 'a' + letterIndex in the word at index
+    public int letterCount(int index, int letterIndex) {
+        return histograms[index][letterIndex];
+    }
+
+    public boolean hasSynonym(int index, String synonym) {
+        for (String candidate : synonyms[index]) {
+            if (candidate.equals(synonym)) return true;
+        }
+        return false;
+    }
+
+    // What the tip button would show for a word, or null if it has none
+    public String randomSynonym(String word, SplittableRandom random) {
+        Integer index = indexByWord.get(word);
+        if (index == null || synonyms[index].length == 0) return null;
+        return synonyms[index][random.nextInt(synonyms[index].length)];
+    }
+
+    private static int[] histogramOf(String word) {
+        int[] counts = new int[26];
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= 'a' && c <= 'z') counts[c - 'a']++;
+        }
+        return counts;
+    }
+}